@@ -0,0 +1,53 @@
+package com.subscription.service;
+
+import com.subscription.service.dto.SubscriptionListRow;
+import com.subscription.service.entity.SubscriptionStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic in-memory fixtures shared by the benchmarks, so results are
+ * comparable between runs and machines without a database.
+ */
+public final class BenchmarkData {
+
+    private static final long SEED = 42L;
+    private static final SubscriptionStatus[] STATUSES = SubscriptionStatus.values();
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Listing rows with a realistic mix of statuses, end dates around today,
+     * missing names and auto-renewal flags.
+     */
+    public static List<SubscriptionListRow> listRows(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        LocalDate today = LocalDate.now();
+        List<SubscriptionListRow> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int plan = random.nextInt(100);
+            LocalDate start = today.minusDays(random.nextInt(60));
+            LocalDate end = start.plusDays(30);
+            rows.add(new SubscriptionListRow(
+                    (long) i,
+                    i % 10 == 0 ? null : "Fan",
+                    "Number " + i,
+                    start,
+                    end,
+                    STATUSES[random.nextInt(STATUSES.length)],
+                    random.nextBoolean(),
+                    (long) plan,
+                    "Plan " + plan,
+                    4.99 + plan,
+                    30,
+                    "creator-" + plan,
+                    "Creator",
+                    plan % 5 == 0 ? null : "Number " + plan));
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,46 @@
+package com.subscription.service.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.subscription.service.BenchmarkData;
+import com.subscription.service.service.impl.SubscriptionListItemMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a dashboard page of {@link SubscriptionListItemDTO}s,
+ * configured like Spring Boot's default {@code ObjectMapper} (java.time module,
+ * ISO dates).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListItemJsonBenchmark {
+
+    @Param({"50", "500"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<SubscriptionListItemDTO> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        SubscriptionListItemMapper mapper = new SubscriptionListItemMapper();
+        page = BenchmarkData.listRows(pageSize).stream().map(mapper::toListItem).toList();
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
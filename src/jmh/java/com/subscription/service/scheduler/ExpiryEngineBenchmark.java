@@ -0,0 +1,180 @@
+package com.subscription.service.scheduler;
+
+import com.subscription.service.tx.RetryingTransactionTemplate;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the nightly expiry strategies against the original per-entity
+ * {@code findAll()} + {@code save()} loop.
+ * <p>
+ * Runs against a dedicated PostgreSQL database (never the application database:
+ * the tables are truncated and re-seeded before every iteration). Configure it
+ * with {@code BENCH_DB_URL}, {@code BENCH_DB_USER} and {@code BENCH_DB_PASSWORD}.
+ * Half of the seeded rows are due and a quarter of those auto-renew.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExpiryEngineBenchmark {
+
+    private static final String CREATE_PLAN = """
+            CREATE TABLE IF NOT EXISTS plan (
+                id BIGSERIAL PRIMARY KEY,
+                name VARCHAR(100) NOT NULL,
+                first_name VARCHAR(255),
+                last_name VARCHAR(255),
+                description VARCHAR(500),
+                price DOUBLE PRECISION NOT NULL,
+                duration_in_days INTEGER NOT NULL,
+                creator_id VARCHAR(255) NOT NULL
+            )
+            """;
+
+    private static final String CREATE_SUBSCRIPTION = """
+            CREATE TABLE IF NOT EXISTS subscription (
+                id BIGSERIAL PRIMARY KEY,
+                user_id VARCHAR(100) NOT NULL,
+                plan_id BIGINT REFERENCES plan (id),
+                start_date DATE,
+                end_date DATE,
+                active BOOLEAN NOT NULL,
+                first_name VARCHAR(255),
+                last_name VARCHAR(255),
+                status VARCHAR(255),
+                auto_renewal BOOLEAN,
+                updated_at TIMESTAMP WITH TIME ZONE
+            )
+            """;
+
+    // Databases seeded before the column existed
+    private static final String ADD_UPDATED_AT =
+            "ALTER TABLE subscription ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP WITH TIME ZONE";
+
+    private static final String CREATE_INDEX =
+            "CREATE INDEX IF NOT EXISTS idx_subscription_status_end_date_id ON subscription (status, end_date, id)";
+
+    private static final String SEED_PLANS = """
+            INSERT INTO plan (name, price, duration_in_days, creator_id)
+            SELECT 'Plan ' || g, 9.99, 30, 'creator-' || g FROM generate_series(1, 100) g
+            """;
+
+    private static final String SEED_SUBSCRIPTIONS = """
+            INSERT INTO subscription (user_id, plan_id, start_date, end_date, active, first_name, last_name, status, auto_renewal)
+            SELECT 'user-' || g, 1 + g % 100,
+                   CAST(? AS date) - 60 + (g % 30), CAST(? AS date) - 30 + (g % 60),
+                   true, 'Fan', 'Number ' || g, 'ACTIVE', g % 4 = 0
+            FROM generate_series(1, ?) g
+            """;
+
+    private static final String LEGACY_FIND_ALL = """
+            SELECT s.id, s.user_id, s.plan_id, s.start_date, s.end_date, s.active, s.first_name, s.last_name,
+                   s.status, s.auto_renewal, p.duration_in_days
+            FROM subscription s
+            LEFT JOIN plan p ON p.id = s.plan_id
+            """;
+
+    private static final String LEGACY_SAVE = """
+            UPDATE subscription
+            SET user_id = ?, plan_id = ?, start_date = ?, end_date = ?, active = ?,
+                first_name = ?, last_name = ?, status = ?, auto_renewal = ?
+            WHERE id = ?
+            """;
+
+    @Param({"10000", "100000"})
+    public int rows;
+
+    private JdbcTemplate jdbcTemplate;
+    private ChunkedExpiryEngine chunkedEngine;
+    private BulkSqlExpiryEngine bulkSqlEngine;
+    private LocalDate today;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                env("BENCH_DB_URL", "jdbc:postgresql://localhost:5432/subscription_bench"),
+                env("BENCH_DB_USER", "postgres"),
+                env("BENCH_DB_PASSWORD", "admin123"));
+        RetryingTransactionTemplate transactions =
+                new RetryingTransactionTemplate(new DataSourceTransactionManager(dataSource), 3);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        chunkedEngine = new ChunkedExpiryEngine(jdbcTemplate, transactions, event -> { }, 500);
+        bulkSqlEngine = new BulkSqlExpiryEngine(jdbcTemplate, transactions, event -> { });
+        today = LocalDate.now();
+
+        jdbcTemplate.execute(CREATE_PLAN);
+        jdbcTemplate.execute(CREATE_SUBSCRIPTION);
+        jdbcTemplate.execute(ADD_UPDATED_AT);
+        jdbcTemplate.execute(CREATE_INDEX);
+    }
+
+    @Setup(Level.Iteration)
+    public void seed() {
+        jdbcTemplate.execute("TRUNCATE subscription, plan RESTART IDENTITY");
+        jdbcTemplate.execute(SEED_PLANS);
+        jdbcTemplate.update(SEED_SUBSCRIPTIONS, Date.valueOf(today), Date.valueOf(today), rows);
+        jdbcTemplate.execute("ANALYZE subscription");
+    }
+
+    /**
+     * The pre-engine behaviour: load every row, filter in Java and write each
+     * due row back with a full-row update in its own autocommit transaction.
+     */
+    @Benchmark
+    public int legacyPerEntitySave() {
+        List<Object[]> all = jdbcTemplate.query(LEGACY_FIND_ALL, (rs, i) -> new Object[]{
+                rs.getLong("id"), rs.getString("user_id"), rs.getObject("plan_id"),
+                rs.getDate("start_date"), rs.getDate("end_date"), rs.getBoolean("active"),
+                rs.getString("first_name"), rs.getString("last_name"), rs.getString("status"),
+                rs.getBoolean("auto_renewal"), rs.getObject("duration_in_days", Integer.class)});
+
+        int updated = 0;
+        for (Object[] s : all) {
+            LocalDate endDate = ((Date) s[4]).toLocalDate();
+            if (!"ACTIVE".equals(s[8]) || !endDate.isBefore(today)) {
+                continue;
+            }
+            Date start = (Date) s[3];
+            Date end = (Date) s[4];
+            boolean active = (Boolean) s[5];
+            String status = (String) s[8];
+            if ((Boolean) s[9]) {
+                start = Date.valueOf(today);
+                end = Date.valueOf(today.plusDays((Integer) s[10]));
+            } else {
+                status = "EXPIRED";
+                active = false;
+            }
+            updated += jdbcTemplate.update(LEGACY_SAVE,
+                    s[1], s[2], start, end, active, s[6], s[7], status, s[9], s[0]);
+        }
+        return updated;
+    }
+
+    @Benchmark
+    public ExpiryRunReport chunked() {
+        return chunkedEngine.run(today);
+    }
+
+    @Benchmark
+    public ExpiryRunReport bulkSql() {
+        return bulkSqlEngine.run(today);
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null ? value : defaultValue;
+    }
+}
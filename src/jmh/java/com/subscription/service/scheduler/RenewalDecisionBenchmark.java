@@ -0,0 +1,94 @@
+package com.subscription.service.scheduler;
+
+import com.subscription.service.entity.Plan;
+import com.subscription.service.entity.Subscription;
+import com.subscription.service.entity.SubscriptionStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CPU cost of the nightly per-row renewal logic, without the database.
+ * <ul>
+ *   <li>{@code legacyEntityLoop}: the original scheduler body, which
+ *       checked and mutated every {@link Subscription} entity, calling
+ *       {@code LocalDate.now()} several times per row.</li>
+ *   <li>{@code chunkedDecision}: {@link ChunkedExpiryEngine#decide}, plus
+ *       building the JDBC batch parameters for a chunk of due rows.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RenewalDecisionBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private List<Subscription> entities;
+    private List<ChunkedExpiryEngine.DueRow> dueRows;
+    private LocalDate today;
+
+    @Setup(Level.Invocation)
+    public void setUp() {
+        today = LocalDate.now();
+        SplittableRandom random = new SplittableRandom(42L);
+        Plan plan = Plan.builder().id(1L).price(9.99).durationInDays(30).creatorId("creator-1").build();
+        entities = new ArrayList<>(ROWS);
+        dueRows = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            LocalDate end = today.minusDays(1 + random.nextInt(30));
+            boolean autoRenewal = random.nextInt(4) == 0;
+            entities.add(Subscription.builder()
+                    .id((long) i).userId("user-" + i).plan(plan)
+                    .startDate(end.minusDays(30)).endDate(end)
+                    .active(true).status(SubscriptionStatus.ACTIVE).autoRenewal(autoRenewal)
+                    .build());
+            dueRows.add(new ChunkedExpiryEngine.DueRow(i, "user-" + i, end.minusDays(30), end, true,
+                    autoRenewal, 1L, "creator-1", 9.99, 30));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void legacyEntityLoop(Blackhole bh) {
+        for (Subscription s : entities) {
+            if (s.getStatus() == SubscriptionStatus.ACTIVE && s.getEndDate().isBefore(LocalDate.now())) {
+                if (Boolean.TRUE.equals(s.getAutoRenewal())) {
+                    s.setStartDate(LocalDate.now());
+                    s.setEndDate(LocalDate.now().plusDays(s.getPlan().getDurationInDays()));
+                } else {
+                    s.setStatus(SubscriptionStatus.EXPIRED);
+                    s.setActive(false);
+                }
+                bh.consume(s);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void chunkedDecision(Blackhole bh) {
+        Date runDate = Date.valueOf(today);
+        List<Object[]> renew = new ArrayList<>();
+        List<Object[]> expire = new ArrayList<>();
+        for (ChunkedExpiryEngine.DueRow row : dueRows) {
+            switch (ChunkedExpiryEngine.decide(row)) {
+                case RENEW -> renew.add(new Object[]{
+                        runDate, Date.valueOf(today.plusDays(row.durationInDays())), row.id()});
+                case EXPIRE -> expire.add(new Object[]{row.id()});
+                case SKIP -> { }
+            }
+        }
+        bh.consume(renew);
+        bh.consume(expire);
+    }
+}
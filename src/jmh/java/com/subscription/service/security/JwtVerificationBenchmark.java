@@ -0,0 +1,82 @@
+package com.subscription.service.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request authentication cost of a subscribe call.
+ * <ul>
+ *   <li>{@code legacyFourParses}: the original flow, where the filter and the
+ *       controller each rebuild the key and parser and verify the token four
+ *       times.</li>
+ *   <li>{@code singleParse}: one verification with the shared parser.</li>
+ *   <li>{@code cachedVerify}: {@link JwtVerifier} for a token seen before.</li>
+ * </ul>
+ * No database or Spring context is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    // Must match JwtUtil so tokens verify
+    private static final String SECRET_KEY = "4k3oZ+mUUGSS+c3BZ6knVEvrAa2eo/0Cd6Iu2DUF8Jo=";
+
+    private JwtUtil jwtUtil;
+    private JwtVerifier jwtVerifier;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        jwtVerifier = new JwtVerifier(jwtUtil, 10_000, Duration.ofMinutes(10));
+        token = Jwts.builder()
+                .setSubject("user-42")
+                .claim("firstName", "Ada")
+                .claim("lastName", "Lovelace")
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+                .signWith(Keys.hmacShaKeyFor(SECRET_KEY.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+        jwtVerifier.verify(token);
+    }
+
+    @Benchmark
+    public void legacyFourParses(Blackhole bh) {
+        bh.consume(legacyParse(token) != null);
+        bh.consume(legacyParse(token).getSubject());
+        bh.consume(legacyParse(token).get("firstName", String.class));
+        bh.consume(legacyParse(token).get("lastName", String.class));
+    }
+
+    @Benchmark
+    public JwtPrincipal singleParse() {
+        return jwtUtil.parse(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal cachedVerify() {
+        return jwtVerifier.verify(token);
+    }
+
+    private static Claims legacyParse(String token) {
+        Key key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
@@ -0,0 +1,71 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.BenchmarkData;
+import com.subscription.service.dto.SubscriptionListRow;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end CSV export cost (mapping + formatting + periodic flushes) for
+ * 10k and 1M rows, written to a sink that only counts characters so the
+ * measurement excludes network and disk.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx1g")
+public class CsvExportBenchmark {
+
+    // Distinct fixture rows; larger exports cycle through them
+    private static final int DISTINCT_ROWS = 10_000;
+
+    @Param({"10000", "1000000"})
+    public int rows;
+
+    private CsvExportWriter writer;
+    private List<SubscriptionListRow> fixture;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        writer = new CsvExportWriter(new SubscriptionListItemMapper(), 1000);
+        fixture = BenchmarkData.listRows(DISTINCT_ROWS);
+    }
+
+    @Benchmark
+    public long writeCsv() throws IOException {
+        Stream<SubscriptionListRow> stream = IntStream.range(0, rows).mapToObj(i -> fixture.get(i % DISTINCT_ROWS));
+        CountingWriter sink = new CountingWriter();
+        writer.write(stream, sink);
+        return sink.chars;
+    }
+
+    private static final class CountingWriter extends Writer {
+        private long chars;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            chars += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            chars += len;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
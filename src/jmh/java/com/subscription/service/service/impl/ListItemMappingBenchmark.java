@@ -0,0 +1,130 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.BenchmarkData;
+import com.subscription.service.dto.SubscriptionListItemDTO;
+import com.subscription.service.dto.SubscriptionListRow;
+import com.subscription.service.entity.SubscriptionStatus;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning listing rows into dashboard table rows, reported per row.
+ * Run with the {@code gc} profiler (enabled in build.gradle) and compare
+ * {@code gc.alloc.rate.norm}, the bytes allocated per row:
+ * <ul>
+ *   <li>{@code legacyToListItem}: the original per-row mapping, which
+ *       calls {@code LocalDate.now()} repeatedly and formats both dates
+ *       on every row.</li>
+ *   <li>{@code sessionToListItem}: one {@link SubscriptionListItemMapper.Session}
+ *       per request, still building a DTO per row.</li>
+ *   <li>{@code sessionCells}: the cell accessors the exporters use, with no DTO.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListItemMappingBenchmark {
+
+    private static final int ROWS = 10_000;
+
+    private final SubscriptionListItemMapper mapper = new SubscriptionListItemMapper();
+    private List<SubscriptionListRow> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        rows = BenchmarkData.listRows(ROWS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void legacyToListItem(Blackhole bh) {
+        for (SubscriptionListRow row : rows) {
+            bh.consume(legacyToListItem(row));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void sessionToListItem(Blackhole bh) {
+        SubscriptionListItemMapper.Session session = mapper.newSession(LocalDate.now());
+        for (SubscriptionListRow row : rows) {
+            bh.consume(session.toListItem(row));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void sessionCells(Blackhole bh) {
+        SubscriptionListItemMapper.Session session = mapper.newSession(LocalDate.now());
+        for (SubscriptionListRow row : rows) {
+            bh.consume(session.fanName(row));
+            bh.consume(session.creatorName(row));
+            bh.consume(session.durationText(row));
+            bh.consume(session.statusLabel(row));
+            bh.consume(session.autoRenewalLabel(row));
+            if (row.getEndDate() != null) {
+                bh.consume(session.remainingDays(row));
+            }
+        }
+    }
+
+    // Verbatim copy of the mapping before per-request sessions, kept as the baseline
+    private static SubscriptionListItemDTO legacyToListItem(SubscriptionListRow s) {
+        String creatorName = ((s.getCreatorFirstName() != null ? s.getCreatorFirstName().trim() : "")
+                + (s.getCreatorLastName() != null ? (" " + s.getCreatorLastName().trim()) : "")).trim();
+        if (creatorName.isEmpty()) creatorName = s.getCreatorId();
+
+        String fanName = ((s.getFirstName() != null ? s.getFirstName().trim() : "")
+                + (s.getLastName() != null ? (" " + s.getLastName().trim()) : "")).trim();
+
+        Long remainingDays = null;
+        if (s.getEndDate() != null) {
+            remainingDays = s.getEndDate().toEpochDay() - LocalDate.now().toEpochDay();
+            if (remainingDays < 0) remainingDays = 0L;
+        }
+
+        String statusLabel;
+        if (s.getStatus() == SubscriptionStatus.CANCELLED) {
+            statusLabel = "cancelled";
+        } else if (s.getEndDate() != null) {
+            if (s.getEndDate().isBefore(LocalDate.now())) {
+                statusLabel = "expired";
+            } else if (remainingDays != null && remainingDays <= 7) {
+                statusLabel = "soon_expired";
+            } else {
+                statusLabel = "active";
+            }
+        } else {
+            statusLabel = "active";
+        }
+
+        DateTimeFormatter fmt = DateTimeFormatter.ISO_DATE;
+        String durationText = (s.getStartDate() != null && s.getEndDate() != null)
+                ? (fmt.format(s.getStartDate()) + " - " + fmt.format(s.getEndDate()))
+                : "-";
+
+        return SubscriptionListItemDTO.builder()
+                .id(s.getId())
+                .fanName(fanName)
+                .creatorId(s.getCreatorId())
+                .creatorName(creatorName)
+                .planName(s.getPlanName())
+                .price(s.getPrice())
+                .durationInDays(s.getDurationInDays())
+                .startDate(s.getStartDate())
+                .endDate(s.getEndDate())
+                .durationText(durationText)
+                .status(statusLabel)
+                .autoRenewal(Boolean.TRUE.equals(s.getAutoRenewal()) ? "On" : "Off")
+                .remainingDays(remainingDays)
+                .build();
+    }
+}
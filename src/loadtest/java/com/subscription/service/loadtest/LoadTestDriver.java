@@ -0,0 +1,191 @@
+package com.subscription.service.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Closed-loop HTTP load generator for comparing the platform-thread and
+ * virtual-thread request modes of a running instance.
+ * <p>
+ * {@code concurrency} client threads (virtual, so the client is never the
+ * bottleneck) each send GET requests round-robin over {@code paths} for
+ * {@code duration}, after a {@code warmup} period whose samples are
+ * discarded. Throughput, error count and latency percentiles are printed and
+ * appended as one JSON line to {@code out}, tagged with {@code label}, so runs
+ * against both modes can be compared side by side.
+ * </p>
+ * <pre>
+ * ./gradlew bootRun                                                  # platform threads
+ * ./gradlew loadTest -Plabel=platform -Ptoken=$JWT
+ * ./gradlew bootRun --args='--spring.threads.virtual.enabled=true'   # virtual threads
+ * ./gradlew loadTest -Plabel=virtual -Ptoken=$JWT
+ * </pre>
+ */
+public final class LoadTestDriver {
+
+    private LoadTestDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        URI baseUrl = URI.create(options.getOrDefault("url", "http://localhost:8085"));
+        List<String> paths = Arrays.asList(options.getOrDefault("paths",
+                "/api/subscriptions/loadtest-user,/api/plans,/api/dashboard/stats").split(","));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "400"));
+        Duration warmup = Duration.parse(options.getOrDefault("warmup", "PT15S"));
+        Duration duration = Duration.parse(options.getOrDefault("duration", "PT60S"));
+        String token = options.getOrDefault("token", System.getenv("LOADTEST_TOKEN"));
+        String label = options.getOrDefault("label", "unlabelled");
+        Path out = Path.of(options.getOrDefault("out", "build/results/loadtest/results.jsonl"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<HttpRequest> requests = new ArrayList<>();
+        for (String path : paths) {
+            HttpRequest.Builder request = HttpRequest.newBuilder(baseUrl.resolve(path.trim()))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET();
+            if (token != null && !token.isBlank()) {
+                request.header("Authorization", "Bearer " + token);
+            }
+            requests.add(request.build());
+        }
+
+        System.out.printf("Warming up %s for %s with %d clients%n", baseUrl, warmup, concurrency);
+        run(client, requests, concurrency, warmup);
+
+        System.out.printf("Measuring for %s%n", duration);
+        Result result = run(client, requests, concurrency, duration);
+
+        String json = result.toJson(label, concurrency, duration);
+        System.out.println(json);
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        Files.writeString(out, json + System.lineSeparator(),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    private static Result run(HttpClient client, List<HttpRequest> requests, int concurrency, Duration duration)
+            throws Exception {
+        Instant deadline = Instant.now().plus(duration);
+        long started = System.nanoTime();
+        List<Future<Worker>> futures = new ArrayList<>(concurrency);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int offset = i;
+                futures.add(clients.submit(() -> new Worker(offset).run(client, requests, deadline)));
+            }
+        }
+        long elapsedNanos = System.nanoTime() - started;
+
+        Result result = new Result(elapsedNanos);
+        for (Future<Worker> future : futures) {
+            result.add(future.get());
+        }
+        return result;
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        return options;
+    }
+
+    // One client loop; latencies are kept per worker and merged at the end to avoid contention
+    private static final class Worker {
+        private final int offset;
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        private Worker(int offset) {
+            this.offset = offset;
+        }
+
+        private Worker run(HttpClient client, List<HttpRequest> requests, Instant deadline) {
+            for (int i = offset; Instant.now().isBefore(deadline); i++) {
+                HttpRequest request = requests.get(i % requests.size());
+                long start = System.nanoTime();
+                try {
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 400 && response.statusCode() != 304) {
+                        errors++;
+                    }
+                } catch (IOException e) {
+                    errors++;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                sample(System.nanoTime() - start);
+            }
+            return this;
+        }
+
+        private void sample(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    private static final class Result {
+        private final long elapsedNanos;
+        private long[] latencies = new long[0];
+        private long errors;
+
+        private Result(long elapsedNanos) {
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        private void add(Worker worker) {
+            int from = latencies.length;
+            latencies = Arrays.copyOf(latencies, from + worker.count);
+            System.arraycopy(worker.latencies, 0, latencies, from, worker.count);
+            errors += worker.errors;
+        }
+
+        private double percentileMillis(double p) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        private String toJson(String label, int concurrency, Duration duration) {
+            Arrays.sort(latencies);
+            double throughput = latencies.length / (elapsedNanos / 1_000_000_000.0);
+            return String.format(Locale.ROOT,
+                    "{\"label\":\"%s\",\"concurrency\":%d,\"duration\":\"%s\",\"requests\":%d,\"errors\":%d,"
+                            + "\"throughputPerSec\":%.1f,\"p50Ms\":%.2f,\"p90Ms\":%.2f,\"p99Ms\":%.2f,\"maxMs\":%.2f}",
+                    label, concurrency, duration, latencies.length, errors, throughput,
+                    percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(100));
+        }
+    }
+}
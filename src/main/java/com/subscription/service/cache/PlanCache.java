@@ -0,0 +1,184 @@
+package com.subscription.service.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.subscription.service.entity.Plan;
+import com.subscription.service.repository.PlanRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * In-process near-cache for {@link Plan} reference data.
+ * <p>
+ * Plans are looked up by ID on every subscribe and listed on every browse,
+ * but change rarely. Three Caffeine caches (by ID, by creator, and the full
+ * list) are bounded by {@code subscription.plan-cache.max-size} with
+ * W-TinyLFU eviction and expire {@code subscription.plan-cache.ttl} after
+ * being loaded. {@link #planCreated(Plan)} invalidates the affected entries
+ * locally; the TTL bounds how long other instances may serve stale lists.
+ * Hit, miss and eviction counts are published to Micrometer as
+ * {@code cache.*} metrics tagged {@code cache=plans.by-id|plans.by-creator|plans.all}.
+ * </p>
+ * <p>
+ * Callers always receive detached copies, so cached instances are never
+ * mutated or attached to a persistence context. Each cached list carries a
+ * version tag computed from its contents; it is used as the ETag of the plan
+ * endpoints, so a tag always describes exactly the body served with it.
+ * </p>
+ * <p>
+ * Misses are loaded on {@code cacheLoadExecutor}, never inside the cache's map
+ * lock, so concurrent callers of one key wait on a single in-flight future
+ * without pinning a virtual thread. A load therefore uses its own connection
+ * rather than the caller's transaction; plans are read-only reference data, so
+ * it sees the same committed rows. Callers should look plans up before opening
+ * a transaction: a caller already holding a connection while it waits for a
+ * load can exhaust the pool when enough of them miss at once.
+ * </p>
+ */
+@Component
+public class PlanCache {
+
+    private static final String ALL_KEY = "all";
+
+    private final AsyncLoadingCache<Long, Plan> byId;
+    private final AsyncLoadingCache<String, PlanList> byCreator;
+    private final AsyncLoadingCache<String, PlanList> all;
+
+    public PlanCache(PlanRepository planRepository,
+                     MeterRegistry meterRegistry,
+                     @Qualifier("cacheLoadExecutor") Executor loadExecutor,
+                     @Value("${subscription.plan-cache.max-size:10000}") long maxSize,
+                     @Value("${subscription.plan-cache.ttl:PT10M}") Duration ttl) {
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .executor(loadExecutor)
+                // A null load is not stored, so a plan created on another instance is found on the next lookup
+                .buildAsync(id -> planRepository.findById(id).map(PlanCache::copyOf).orElse(null));
+        this.byCreator = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .executor(loadExecutor)
+                .buildAsync(creatorId -> PlanList.of(planRepository.findByCreatorId(creatorId)));
+        this.all = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .executor(loadExecutor)
+                .buildAsync(key -> PlanList.of(planRepository.findAll()));
+
+        CaffeineCacheMetrics.monitor(meterRegistry, byId.synchronous(), "plans.by-id");
+        CaffeineCacheMetrics.monitor(meterRegistry, byCreator.synchronous(), "plans.by-creator");
+        CaffeineCacheMetrics.monitor(meterRegistry, all.synchronous(), "plans.all");
+    }
+
+    public Optional<Plan> findById(Long id) {
+        return Optional.ofNullable(join(byId.get(id))).map(PlanCache::copyOf);
+    }
+
+    public List<Plan> findByCreatorId(String creatorId) {
+        return creatorPlans(creatorId).plans();
+    }
+
+    public List<Plan> findAll() {
+        return allPlans().plans();
+    }
+
+    /**
+     * The creator's cached plan list; read the plans and the version from the
+     * same instance so a tag always matches the body served with it.
+     */
+    public PlanList creatorPlans(String creatorId) {
+        return join(byCreator.get(creatorId));
+    }
+
+    /**
+     * The cached list of all plans; see {@link #creatorPlans}.
+     */
+    public PlanList allPlans() {
+        return join(all.get(ALL_KEY));
+    }
+
+    /**
+     * Drops every entry a newly saved plan makes stale.
+     */
+    public void planCreated(Plan plan) {
+        byId.synchronous().invalidate(plan.getId());
+        byCreator.synchronous().invalidate(plan.getCreatorId());
+        all.synchronous().invalidateAll();
+    }
+
+    /**
+     * A cached plan list with a tag derived from its contents (size, newest
+     * {@code updated_at}, highest ID), computed once per load.
+     */
+    public record PlanList(List<Plan> plans, String version) {
+
+        /**
+         * Detached copies of the cached plans.
+         */
+        @Override
+        public List<Plan> plans() {
+            return copyOf(plans);
+        }
+
+        static PlanList of(List<Plan> loaded) {
+            List<Plan> plans = copyOf(loaded);
+            long updatedMicros = 0;
+            long maxId = 0;
+            for (Plan plan : plans) {
+                if (plan.getUpdatedAt() != null) {
+                    Instant t = plan.getUpdatedAt();
+                    updatedMicros = Math.max(updatedMicros, t.getEpochSecond() * 1_000_000 + t.getNano() / 1000);
+                }
+                maxId = Math.max(maxId, plan.getId());
+            }
+            return new PlanList(plans, Long.toHexString(plans.size())
+                    + "-" + Long.toHexString(updatedMicros)
+                    + "-" + Long.toHexString(maxId));
+        }
+    }
+
+    // Rethrows the loader's own exception rather than the CompletionException wrapping it
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static List<Plan> copyOf(List<Plan> plans) {
+        return plans.stream().map(PlanCache::copyOf).toList();
+    }
+
+    private static Plan copyOf(Plan plan) {
+        return Plan.builder()
+                .id(plan.getId())
+                .name(plan.getName())
+                .firstName(plan.getFirstName())
+                .lastName(plan.getLastName())
+                .description(plan.getDescription())
+                .price(plan.getPrice())
+                .durationInDays(plan.getDurationInDays())
+                .creatorId(plan.getCreatorId())
+                .updatedAt(plan.getUpdatedAt())
+                .build();
+    }
+}
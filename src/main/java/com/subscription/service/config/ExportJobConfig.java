@@ -0,0 +1,33 @@
+package com.subscription.service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Executor for background export jobs.
+ * <p>
+ * Bounded in both threads and queue so a burst of export requests cannot
+ * exhaust database connections; submissions beyond the queue are rejected.
+ * With {@code spring.threads.virtual.enabled} the workers are virtual threads;
+ * the bounds stay the same.
+ * </p>
+ */
+@Configuration
+public class ExportJobConfig {
+
+    @Bean(name = "exportJobExecutor")
+    public ThreadPoolTaskExecutor exportJobExecutor(
+            @Value("${subscription.export.job-threads:2}") int threads,
+            @Value("${subscription.export.job-queue-capacity:20}") int queueCapacity,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("export-job-");
+        executor.setVirtualThreads(virtualThreads);
+        return executor;
+    }
+}
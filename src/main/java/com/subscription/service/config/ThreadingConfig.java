@@ -0,0 +1,29 @@
+package com.subscription.service.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Executors for work that blocks on JDBC outside the request thread.
+ * <p>
+ * Request handling, {@code @Scheduled} methods and Spring's application task
+ * executor switch to virtual threads with {@code spring.threads.virtual.enabled};
+ * the beans here cover what that property does not.
+ * </p>
+ */
+@Configuration
+public class ThreadingConfig {
+
+    /**
+     * Runs Caffeine cache loads that query the database. Loading on a separate
+     * virtual thread keeps the query out of the cache's {@code ConcurrentHashMap}
+     * bin lock, a {@code synchronized} block that would pin a virtual caller's
+     * carrier thread for the length of the query on Java 21.
+     */
+    @Bean(name = "cacheLoadExecutor")
+    public TaskExecutor cacheLoadExecutor() {
+        return new VirtualThreadTaskExecutor("cache-load-");
+    }
+}
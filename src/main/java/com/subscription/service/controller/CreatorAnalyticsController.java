@@ -0,0 +1,67 @@
+package com.subscription.service.controller;
+
+import com.subscription.service.dto.CreatorAnalyticsDTO;
+import com.subscription.service.security.JwtPrincipal;
+import com.subscription.service.service.CreatorAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * REST controller for a creator's own dashboard figures.
+ * <p>
+ * The creator is always the one identified by the JWT, so a creator can only
+ * see their own plans. Figures are computed from per-creator aggregates rather
+ * than the admin subscription listing; see
+ * {@link com.subscription.service.service.impl.CreatorAnalyticsServiceImpl}.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/creators/me")
+@RequiredArgsConstructor
+@Slf4j
+public class CreatorAnalyticsController {
+
+    private final CreatorAnalyticsService creatorAnalyticsService;
+
+    @Value("${subscription.rollup.max-range-days:1100}")
+    private long maxRangeDays;
+
+    /**
+     * Get active subscribers and MRR per plan, plus churn and renewal rate over a date range.
+     * <p>
+     * Dates are ISO {@code yyyy-MM-dd}, both ends inclusive. Range activity is
+     * available up to the last processed rollup day (normally yesterday).
+     * </p>
+     *
+     * @param from      first day of the range
+     * @param to        last day of the range
+     * @param principal the authenticated creator
+     * @return the creator's analytics
+     */
+    @GetMapping("/analytics")
+    public CreatorAnalyticsDTO analytics(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                         @AuthenticationPrincipal JwtPrincipal principal) {
+        if (from.isAfter(to)) {
+            throw badRequest("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw badRequest("Date range must not exceed " + maxRangeDays + " days");
+        }
+        return creatorAnalyticsService.getAnalytics(principal.getUserId(), from, to);
+    }
+
+    private ResponseStatusException badRequest(String message) {
+        log.warn("Rejected creator analytics request: {}", message);
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
+    }
+}
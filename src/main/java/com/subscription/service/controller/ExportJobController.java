@@ -0,0 +1,82 @@
+package com.subscription.service.controller;
+
+import com.subscription.service.dto.ExportJobDTO;
+import com.subscription.service.service.ExportJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+/**
+ * REST controller for background subscription exports.
+ * <p>
+ * Flow: {@code POST /api/dashboard/exports?filter=...} queues a job and returns
+ * it with {@code 202 Accepted}; poll {@code GET /api/dashboard/exports/{jobId}}
+ * until its status is {@code completed}; then fetch the gzip-compressed CSV from
+ * {@code GET /api/dashboard/exports/{jobId}/download}. The download honours
+ * HTTP {@code Range} requests, so interrupted downloads can be resumed.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/dashboard/exports")
+@RequiredArgsConstructor
+@Slf4j
+public class ExportJobController {
+
+    private static final MediaType GZIP = MediaType.parseMediaType("application/gzip");
+
+    private final ExportJobService exportJobService;
+
+    /**
+     * Queue an export job.
+     *
+     * @param filter subscription filter (active, cancelled, expired, soon-expired, all)
+     * @return the queued job, or the already running job for the same filter and date
+     */
+    @PostMapping
+    public ResponseEntity<ExportJobDTO> submit(@RequestParam(defaultValue = "all") String filter) {
+        ExportJobDTO job = exportJobService.submit(filter);
+        log.info("Export job {} requested with filter: {}", job.getId(), filter);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/dashboard/exports/" + job.getId()))
+                .body(job);
+    }
+
+    /**
+     * Get the status of an export job.
+     *
+     * @param jobId export job ID
+     * @return job status
+     */
+    @GetMapping("/{jobId}")
+    public ExportJobDTO status(@PathVariable String jobId) {
+        return exportJobService.getJob(jobId);
+    }
+
+    /**
+     * Download the result of a completed export job.
+     *
+     * @param jobId export job ID
+     * @return the {@code .csv.gz} file; partial content when a {@code Range} header is sent
+     */
+    @GetMapping("/{jobId}/download")
+    public ResponseEntity<Resource> download(@PathVariable String jobId) {
+        ExportJobDTO job = exportJobService.getJob(jobId);
+        Resource file = new FileSystemResource(exportJobService.getArtifact(jobId));
+        String filename = "subscriptions-" + job.getFilter() + "-" + job.getId() + ".csv.gz";
+
+        return ResponseEntity.ok()
+                .contentType(GZIP)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(file);
+    }
+}
@@ -2,11 +2,16 @@ package com.subscription.service.controller;
 
 import com.subscription.service.dto.PlanRequest;
 import com.subscription.service.dto.PlanResponse;
-import com.subscription.service.security.JwtUtil;
+import com.subscription.service.dto.VersionedPlanList;
+import com.subscription.service.security.JwtPrincipal;
 import com.subscription.service.service.PlanService;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -36,39 +41,41 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PlanController {
 
+    // Clients may store responses but must revalidate them (cheaply, via If-None-Match) before reuse
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final PlanService planService;
-    private final JwtUtil jwtUtil;
 
     /**
      * Creates a new subscription plan for a creator.
      * <p>
-     * The creator ID is extracted from the JWT token in the {@code Authorization} header.
+     * The creator ID is taken from the JWT verified by {@link com.subscription.service.security.JwtAuthFilter}.
      * Only authenticated creators should be able to access this endpoint.
      *
-     * @param request      the plan details (title, price, duration, etc.)
-     * @param httpRequest  the HTTP request containing the JWT token
+     * @param request    the plan details (title, price, duration, etc.)
+     * @param principal  the authenticated creator
      * @return the created plan details
      */
     @PostMapping
     public PlanResponse createPlan(@RequestBody PlanRequest request,
-                                   HttpServletRequest httpRequest) {
-        String token = httpRequest.getHeader("Authorization").substring(7);
-        String creatorId = jwtUtil.extractUsername(token);
-        String firstName = jwtUtil.extractFirstName(token);
-        String lastName = jwtUtil.extractLastName(token);
-        return planService.createPlan(request, creatorId,firstName,lastName);
+                                   @AuthenticationPrincipal JwtPrincipal principal) {
+        return planService.createPlan(request, principal.getUserId(),
+                principal.getFirstName(), principal.getLastName());
     }
 
     /**
      * Retrieves all available subscription plans.
      * <p>
      * This is typically used on the user side to browse available creator plans.
+     * The response carries an {@code ETag}; a request with a matching
+     * {@code If-None-Match} gets {@code 304 Not Modified} and no body.
      *
+     * @param webRequest the current request, for conditional headers
      * @return a list of all available plans
      */
     @GetMapping
-    public List<PlanResponse> getAllPlans() {
-        return planService.getAllPlans();
+    public ResponseEntity<List<PlanResponse>> getAllPlans(WebRequest webRequest) {
+        return conditional(webRequest, planService.getAllPlans());
     }
 
     /**
@@ -76,11 +83,23 @@ public class PlanController {
      * <p>
      * This is typically used in the creator's dashboard to view and manage their plans.
      *
-     * @param creatorId the unique identifier of the creator
+     * Supports {@code If-None-Match} like {@link #getAllPlans}.
+     *
+     * @param creatorId  the unique identifier of the creator
+     * @param webRequest the current request, for conditional headers
      * @return a list of plans created by the specified creator
      */
     @GetMapping("/creator/{creatorId}")
-    public List<PlanResponse> getByCreator(@PathVariable String creatorId) {
-        return planService.getPlansByCreator(creatorId);
+    public ResponseEntity<List<PlanResponse>> getByCreator(@PathVariable String creatorId, WebRequest webRequest) {
+        return conditional(webRequest, planService.getPlansByCreator(creatorId));
+    }
+
+    // 304 without serializing the plans when the client's ETag is current
+    private ResponseEntity<List<PlanResponse>> conditional(WebRequest webRequest, VersionedPlanList plans) {
+        String etag = plans.getVersion();
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CACHE_CONTROL).body(plans.getPlans());
     }
 }
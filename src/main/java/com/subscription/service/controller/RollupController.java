@@ -0,0 +1,97 @@
+package com.subscription.service.controller;
+
+import com.subscription.service.dto.RollupPointDTO;
+import com.subscription.service.dto.RollupTotalDTO;
+import com.subscription.service.service.RollupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * REST controller for historical subscription trends.
+ * <p>
+ * All endpoints read the pre-aggregated {@code daily_rollup} table, so a
+ * year-long range costs a few hundred rows regardless of how many
+ * subscriptions exist. Figures are available up to the last processed day
+ * (normally yesterday). Dates are ISO {@code yyyy-MM-dd}, both ends inclusive.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/dashboard/rollups")
+@RequiredArgsConstructor
+@Slf4j
+public class RollupController {
+
+    private final RollupService rollupService;
+
+    @Value("${subscription.rollup.max-range-days:1100}")
+    private long maxRangeDays;
+
+    /**
+     * Get new, renewed, cancelled and expired counts and revenue per day.
+     *
+     * @param from      first day of the range
+     * @param to        last day of the range
+     * @param planId    restrict to one plan (optional)
+     * @param creatorId restrict to one creator's plans (optional, ignored when planId is given)
+     * @return one {@link RollupPointDTO} per day that had activity
+     */
+    @GetMapping("/daily")
+    public List<RollupPointDTO> daily(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                      @RequestParam(required = false) Long planId,
+                                      @RequestParam(required = false) String creatorId) {
+        validateRange(from, to);
+        return rollupService.getDailySeries(from, to, planId, creatorId);
+    }
+
+    /**
+     * Get activity totals per plan over a date range, highest revenue first.
+     *
+     * @param from first day of the range
+     * @param to   last day of the range
+     * @return one {@link RollupTotalDTO} per plan, keyed by plan ID
+     */
+    @GetMapping("/plans")
+    public List<RollupTotalDTO> plans(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        validateRange(from, to);
+        return rollupService.getPlanTotals(from, to);
+    }
+
+    /**
+     * Get activity totals per creator over a date range, highest revenue first.
+     *
+     * @param from first day of the range
+     * @param to   last day of the range
+     * @return one {@link RollupTotalDTO} per creator, keyed by creator ID
+     */
+    @GetMapping("/creators")
+    public List<RollupTotalDTO> creators(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        validateRange(from, to);
+        return rollupService.getCreatorTotals(from, to);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw badRequest("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= maxRangeDays) {
+            throw badRequest("Date range must not exceed " + maxRangeDays + " days");
+        }
+    }
+
+    private ResponseStatusException badRequest(String message) {
+        log.warn("Rejected rollup request: {}", message);
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
+    }
+}
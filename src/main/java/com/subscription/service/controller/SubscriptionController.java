@@ -1,42 +1,68 @@
 package com.subscription.service.controller;
 
+import com.subscription.service.dto.BatchCancelRequest;
+import com.subscription.service.dto.BatchResultDTO;
+import com.subscription.service.dto.BatchSubscribeItem;
+import com.subscription.service.dto.BatchSubscribeRequest;
 import com.subscription.service.dto.SubscriptionResponse;
-import com.subscription.service.security.JwtUtil;
+import com.subscription.service.security.JwtPrincipal;
+import com.subscription.service.service.ResourceVersionService;
+import com.subscription.service.service.SubscriptionBatchService;
 import com.subscription.service.service.SubscriptionService;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/subscriptions")
 @RequiredArgsConstructor
+@Slf4j
 public class SubscriptionController {
 
+    // Per-user data: private caches only, always revalidated
+    private static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final SubscriptionService subscriptionService;
-    private final JwtUtil jwtUtil;
+    private final ResourceVersionService resourceVersionService;
+    private final SubscriptionBatchService subscriptionBatchService;
+
+    @Value("${subscription.batch.max-items:1000}")
+    private int maxBatchItems;
 
     /**
      * Subscribe authenticated user to a plan.
      */
     @PostMapping("/subscribe/{planId}")
     public SubscriptionResponse subscribe(@PathVariable Long planId,
-                                          HttpServletRequest request) {
-        String token = request.getHeader("Authorization").substring(7);
-        String userId = jwtUtil.extractUsername(token);
-        String firstName = jwtUtil.extractFirstName(token);
-        String lastName = jwtUtil.extractLastName(token);
-
-        return subscriptionService.createSubscription(userId, planId, firstName, lastName, false);
+                                          @AuthenticationPrincipal JwtPrincipal principal) {
+        return subscriptionService.createSubscription(principal.getUserId(), planId,
+                principal.getFirstName(), principal.getLastName(), false);
     }
 
     /**
      * Get all subscriptions for a user.
+     * Responds {@code 304 Not Modified} when {@code If-None-Match} matches the current ETag.
      */
     @GetMapping("/{userId}")
-    public List<SubscriptionResponse> getUserSubscription(@PathVariable String userId) {
-        return subscriptionService.getUserSubscription(userId);
+    public ResponseEntity<List<SubscriptionResponse>> getUserSubscription(@PathVariable String userId,
+                                                                          WebRequest webRequest) {
+        String etag = resourceVersionService.userSubscriptionsVersion(userId);
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CACHE_CONTROL).build();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CACHE_CONTROL)
+                .body(subscriptionService.getUserSubscription(userId));
     }
 
     /**
@@ -47,4 +73,66 @@ public class SubscriptionController {
         subscriptionService.cancelSubscription(subscriptionId);
         return "Subscription cancelled successfully";
     }
-}
\ No newline at end of file
+
+    /**
+     * Subscribe many users in one call, in a single transaction.
+     * Only partner tokens ({@code "partner": true} claim) may name other users; their items without
+     * {@code userId}, {@code firstName} or {@code lastName} use the caller's token values. For any other
+     * caller every item is created for the token's user and names, and a different {@code userId}
+     * rejects the whole request with {@code 403 Forbidden}.
+     * Invalid items are rejected individually; the others are still created.
+     */
+    @PostMapping("/batch/subscribe")
+    public BatchResultDTO subscribeBatch(@RequestBody BatchSubscribeRequest request,
+                                         @AuthenticationPrincipal JwtPrincipal principal) {
+        List<BatchSubscribeItem> items = request.getItems();
+        validateBatchSize(items);
+        for (BatchSubscribeItem item : items) {
+            if (!principal.isPartner()) {
+                if (item.getUserId() != null && !item.getUserId().equals(principal.getUserId())) {
+                    throw forbidden("Only partner tokens may subscribe other users");
+                }
+                item.setUserId(principal.getUserId());
+                item.setFirstName(principal.getFirstName());
+                item.setLastName(principal.getLastName());
+            } else if (item.getUserId() == null) {
+                item.setUserId(principal.getUserId());
+                if (item.getFirstName() == null) {
+                    item.setFirstName(principal.getFirstName());
+                }
+                if (item.getLastName() == null) {
+                    item.setLastName(principal.getLastName());
+                }
+            }
+        }
+        log.info("Batch subscribe of {} items", items.size());
+        return subscriptionBatchService.createSubscriptions(items);
+    }
+
+    /**
+     * Cancel many subscriptions by ID in one call, in a single transaction.
+     * Unknown IDs are rejected individually; the others are still cancelled.
+     */
+    @PostMapping("/batch/cancel")
+    public BatchResultDTO cancelBatch(@RequestBody BatchCancelRequest request) {
+        validateBatchSize(request.getSubscriptionIds());
+        log.info("Batch cancel of {} subscriptions", request.getSubscriptionIds().size());
+        return subscriptionBatchService.cancelSubscriptions(request.getSubscriptionIds());
+    }
+
+    private void validateBatchSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > maxBatchItems) {
+            throw badRequest("A batch must contain between 1 and " + maxBatchItems + " items");
+        }
+    }
+
+    private ResponseStatusException badRequest(String message) {
+        log.warn("Rejected subscription request: {}", message);
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
+    }
+
+    private ResponseStatusException forbidden(String message) {
+        log.warn("Rejected subscription request: {}", message);
+        return new ResponseStatusException(HttpStatus.FORBIDDEN, message);
+    }
+}
@@ -1,18 +1,35 @@
 package com.subscription.service.controller;
 
+import com.subscription.service.dto.ArchiveSummaryDTO;
+import com.subscription.service.dto.ExportFormat;
+import com.subscription.service.dto.PlanPageDTO;
+import com.subscription.service.dto.SubscriptionFilter;
 import com.subscription.service.dto.SubscriptionListItemDTO;
+import com.subscription.service.dto.SubscriptionPageDTO;
+import com.subscription.service.dto.SubscriptionPageRequest;
+import com.subscription.service.dto.SubscriptionSort;
+import com.subscription.service.dto.SubscriptionStatsDTO;
 import com.subscription.service.dto.UpdateSubscriptionRequest;
+import com.subscription.service.live.DashboardLiveFeed;
+import com.subscription.service.service.ArchiveService;
 import com.subscription.service.service.DashboardService;
+import com.subscription.service.service.SearchService;
 import com.subscription.service.service.SubscriptionStatsService;
 import com.subscription.service.service.ExportService;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.YearMonth;
 import java.util.List;
 
 /**
@@ -28,9 +45,30 @@ public class SubscriptionStatsController {
     private final SubscriptionStatsService subscriptionStatsService;
     private final DashboardService dashboardService;
     private final ExportService exportService;
+    private final ArchiveService archiveService;
+    private final DashboardLiveFeed dashboardLiveFeed;
+    private final SearchService searchService;
+
+    @Value("${subscription.dashboard.max-page-size:500}")
+    private int maxPageSize;
+
+    @Value("${subscription.search.min-length:3}")
+    private int searchMinLength;
 
     // ----------------- Stats Endpoints -----------------
 
+    /**
+     * Get all dashboard figures (total active, monthly revenue, expiring soon,
+     * new today) in one call. Served from a short-lived cache, so values may be
+     * up to {@code subscription.stats.cache-ttl} old.
+     *
+     * @return {@link SubscriptionStatsDTO} snapshot
+     */
+    @GetMapping("/stats")
+    public SubscriptionStatsDTO getStats() {
+        return subscriptionStatsService.getStats();
+    }
+
     /**
      * Get the total number of active subscriptions.
      *
@@ -71,42 +109,95 @@ public class SubscriptionStatsController {
         return subscriptionStatsService.getNewTodayCount();
     }
 
+    /**
+     * Live feed of dashboard changes as Server-Sent Events, replacing polling of
+     * the stats and list endpoints. Emits {@code stats} on connect and whenever
+     * the figures change, {@code subscriptions} with the rows changed since the
+     * previous event, and {@code resync} when this client fell too far behind
+     * and should reload. Changes are batched every
+     * {@code subscription.live.flush-interval}.
+     *
+     * @return an open event stream
+     */
+    @GetMapping(value = "/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter live() {
+        return dashboardLiveFeed.connect();
+    }
+
     // ----------------- Admin Subscriptions Endpoints -----------------
 
     /**
-     * Get a list of subscriptions filtered by status.
+     * Get one page of subscriptions filtered by status.
+     * <p>
+     * Passing {@code page} selects offset paging. Otherwise the listing is keyset
+     * paged: omit {@code cursor} for the first page, then pass the returned
+     * {@code nextCursor} to continue. The cursor is only valid for the
+     * {@code sort} and {@code direction} it was issued with.
+     * <p>
+     * With {@code archived=true} the page is read from the archive instead of
+     * the live table. Archived listings are offset paged by ID ({@code page}
+     * defaults to 0) and accept only the all, cancelled and expired filters.
      *
-     * @param filter subscription filter (active, cancelled, expired, soon-expired, all)
-     * @return list of {@link SubscriptionListItemDTO}
+     * @param filter       subscription filter (active, cancelled, expired, soon-expired, all)
+     * @param page         zero-based page number for offset paging
+     * @param size         page size (1 to {@code subscription.dashboard.max-page-size})
+     * @param cursor       opaque keyset cursor from a previous response
+     * @param sort         sort key (id, endDate)
+     * @param direction    sort direction (asc, desc)
+     * @param includeTotal whether to count all matching rows
+     * @param archived     whether to list archived subscriptions
+     * @return a {@link SubscriptionPageDTO} of {@link SubscriptionListItemDTO}
      */
     @GetMapping("/subscriptions")
-    public List<SubscriptionListItemDTO> list(@RequestParam(defaultValue = "all") String filter) {
-        switch (filter.toLowerCase()) {
-            case "active":
-                return dashboardService.getActiveSubscriptions();
-            case "cancelled":
-                return dashboardService.getCancelledSubscriptions();
-            case "expired":
-                return dashboardService.getExpiredSubscriptions();
-            case "soon-expired":
-                return dashboardService.getSoonExpiredSubscriptions();
-            case "all":
-                return dashboardService.getAllSubscriptions();
-            default:
-                log.warn("Invalid subscription filter requested: {}", filter);
-                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid filter: " + filter);
+    public SubscriptionPageDTO list(@RequestParam(defaultValue = "all") String filter,
+                                    @RequestParam(required = false) Integer page,
+                                    @RequestParam(defaultValue = "50") int size,
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(defaultValue = "id") String sort,
+                                    @RequestParam(defaultValue = "asc") String direction,
+                                    @RequestParam(defaultValue = "true") boolean includeTotal,
+                                    @RequestParam(defaultValue = "false") boolean archived) {
+        SubscriptionFilter subscriptionFilter = SubscriptionFilter.fromParam(filter)
+                .orElseThrow(() -> badRequest("Invalid filter: " + filter));
+        SubscriptionSort subscriptionSort = SubscriptionSort.fromParam(sort)
+                .orElseThrow(() -> badRequest("Invalid sort: " + sort));
+        Sort.Direction sortDirection = Sort.Direction.fromOptionalString(direction)
+                .orElseThrow(() -> badRequest("Invalid direction: " + direction));
+        if (size < 1 || size > maxPageSize) {
+            throw badRequest("Page size must be between 1 and " + maxPageSize);
+        }
+        if (page != null && (page < 0 || cursor != null)) {
+            throw badRequest("Use either a non-negative page or a cursor");
+        }
+        if (archived) {
+            if (cursor != null || subscriptionSort != SubscriptionSort.ID || sortDirection != Sort.Direction.ASC) {
+                throw badRequest("Archived subscriptions are offset paged in ascending id order only");
+            }
+            return archiveService.getArchivedPage(subscriptionFilter, page != null ? page : 0, size, includeTotal);
         }
+
+        return dashboardService.getSubscriptionPage(SubscriptionPageRequest.builder()
+                .filter(subscriptionFilter)
+                .page(page)
+                .size(size)
+                .cursor(cursor)
+                .sort(subscriptionSort)
+                .direction(sortDirection)
+                .includeTotal(includeTotal)
+                .build());
     }
 
     /**
      * Get details of a subscription by ID.
      *
-     * @param id subscription ID
+     * @param id       subscription ID
+     * @param archived whether to look the subscription up in the archive
      * @return subscription details
      */
     @GetMapping("/subscriptions/{id}")
-    public SubscriptionListItemDTO view(@PathVariable Long id) {
-        return dashboardService.getById(id);
+    public SubscriptionListItemDTO view(@PathVariable Long id,
+                                        @RequestParam(defaultValue = "false") boolean archived) {
+        return archived ? archiveService.getArchivedById(id) : dashboardService.getById(id);
     }
 
     /**
@@ -138,20 +229,101 @@ public class SubscriptionStatsController {
     // ----------------- Export Subscriptions Endpoints -----------------
 
     /**
-     * Export subscription data as CSV file.
+     * Export subscription data as a CSV file, a JSON array or an Apache Arrow IPC stream.
      *
      * @param filter   subscription filter (active, cancelled, expired, soon-expired, all)
-     * @param response HTTP servlet response to write CSV output
+     * @param format   output format (csv, json, arrow)
+     * @param response HTTP servlet response to write the export output
      */
     @GetMapping("/subscriptions/export-csv")
     public void exportToCsv(@RequestParam(defaultValue = "all") String filter,
+                            @RequestParam(defaultValue = "csv") String format,
                             HttpServletResponse response) {
-        log.info("Exporting subscriptions with filter: {}", filter);
+        ExportFormat exportFormat = ExportFormat.fromParam(format)
+                .orElseThrow(() -> badRequest("Invalid format: " + format));
+        log.info("Exporting subscriptions with filter: {} as {}", filter, exportFormat.getParam());
 
-        response.setContentType("text/csv");
-        response.setHeader("Content-Disposition", "attachment; filename=\"subscriptions.csv\"");
+        response.setContentType(exportFormat.getContentType());
+        response.setHeader("Content-Disposition",
+                "attachment; filename=\"subscriptions." + exportFormat.getFileExtension() + "\"");
+
+        exportService.exportSubscriptions(filter, exportFormat, response);
+    }
+
+    // ----------------- Archive Endpoints -----------------
+
+    /**
+     * Get archived subscription counts and revenue per end month. Reads only the
+     * summary rows kept by the archive job, never the archived rows themselves.
+     *
+     * @param from first month of the range ({@code yyyy-MM})
+     * @param to   last month of the range ({@code yyyy-MM})
+     * @return one {@link ArchiveSummaryDTO} per month that has archived subscriptions
+     */
+    @GetMapping("/archive/summary")
+    public List<ArchiveSummaryDTO> archiveSummary(@RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth from,
+                                                  @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth to) {
+        if (from.isAfter(to)) {
+            throw badRequest("'from' must not be after 'to'");
+        }
+        return archiveService.getSummary(from, to);
+    }
+
+    // ----------------- Search Endpoints -----------------
+
+    /**
+     * Search subscriptions by fan name.
+     * <p>
+     * Matches names where any word starts with {@code q}, plus fuzzy matches
+     * that tolerate typos; prefix matches come first. Offset paged without a
+     * total count.
+     *
+     * @param q    search text ({@code subscription.search.min-length} characters or more)
+     * @param page zero-based page number
+     * @param size page size (1 to {@code subscription.dashboard.max-page-size})
+     * @return a {@link SubscriptionPageDTO} of {@link SubscriptionListItemDTO}
+     */
+    @GetMapping("/search/subscriptions")
+    public SubscriptionPageDTO searchSubscriptions(@RequestParam String q,
+                                                   @RequestParam(defaultValue = "0") int page,
+                                                   @RequestParam(defaultValue = "50") int size) {
+        validateSearch(q, page, size);
+        return searchService.searchSubscriptions(q, page, size);
+    }
+
+    /**
+     * Search plans by plan name or creator name, matched like
+     * {@link #searchSubscriptions}.
+     *
+     * @param q    search text ({@code subscription.search.min-length} characters or more)
+     * @param page zero-based page number
+     * @param size page size (1 to {@code subscription.dashboard.max-page-size})
+     * @return a {@link PlanPageDTO} of matching plans
+     */
+    @GetMapping("/search/plans")
+    public PlanPageDTO searchPlans(@RequestParam String q,
+                                   @RequestParam(defaultValue = "0") int page,
+                                   @RequestParam(defaultValue = "50") int size) {
+        validateSearch(q, page, size);
+        return searchService.searchPlans(q, page, size);
+    }
+
+    // Shorter terms have too few trigrams to narrow the index scan
+    private void validateSearch(String q, int page, int size) {
+        if (q.strip().length() < searchMinLength) {
+            throw badRequest("Search text must be at least " + searchMinLength + " characters");
+        }
+        if (page < 0) {
+            throw badRequest("Page must not be negative");
+        }
+        if (size < 1 || size > maxPageSize) {
+            throw badRequest("Page size must be between 1 and " + maxPageSize);
+        }
+    }
 
-        exportService.exportSubscriptions(filter, response);
+    private ResponseStatusException badRequest(String message) {
+        log.warn("Rejected dashboard request: {}", message);
+        return new ResponseStatusException(HttpStatus.BAD_REQUEST, message);
     }
 
 }
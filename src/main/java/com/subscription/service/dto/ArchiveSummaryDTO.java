@@ -0,0 +1,19 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Archived subscription totals for one end month.
+ */
+@Getter @Setter
+@AllArgsConstructor @NoArgsConstructor
+public class ArchiveSummaryDTO {
+
+    // First day of the month
+    private LocalDate month;
+    private Long cancelledCount;
+    private Long expiredCount;
+    private Double revenue;
+}
@@ -0,0 +1,13 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchCancelRequest {
+    private List<Long> subscriptionIds;
+}
@@ -0,0 +1,21 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+/**
+ * Outcome of one operation in a batch, in request order.
+ */
+@Getter @Setter @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class BatchItemResultDTO {
+
+    // Position of the operation in the request
+    private int index;
+
+    // "created", "cancelled" or "rejected"
+    private String status;
+    private Long subscriptionId;
+
+    // Reason for a rejected operation
+    private String error;
+}
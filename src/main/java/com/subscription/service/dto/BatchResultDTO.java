@@ -0,0 +1,13 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class BatchResultDTO {
+    private int succeeded;
+    private int rejected;
+    private List<BatchItemResultDTO> results;
+}
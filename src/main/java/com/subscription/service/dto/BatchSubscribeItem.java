@@ -0,0 +1,20 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+/**
+ * One subscribe operation in a batch. {@code userId} and the names default to
+ * the caller's token when omitted; only partner callers may set them to
+ * another user.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchSubscribeItem {
+    private String userId;
+    private String firstName;
+    private String lastName;
+    private Long planId;
+    private Boolean autoRenewal;
+}
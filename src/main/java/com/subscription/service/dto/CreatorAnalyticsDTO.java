@@ -0,0 +1,35 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A creator's current subscriber base plus activity over a date range.
+ */
+@Getter @Setter @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class CreatorAnalyticsDTO {
+    private String creatorId;
+    private LocalDate from;
+    private LocalDate to;
+
+    // Current figures, across all of the creator's plans
+    private long activeSubscribers;
+    private double monthlyRecurringRevenue;
+    private List<CreatorPlanAnalyticsDTO> plans;
+
+    // Activity between from and to (inclusive), from the daily rollups
+    private long newCount;
+    private long renewedCount;
+    private long cancelledCount;
+    private long expiredCount;
+    private double revenue;
+
+    // (cancelled + expired) / subscribers active at the start of the range; null when there were none
+    private Double churnRate;
+
+    // renewed / (renewed + expired); null when nothing came up for renewal
+    private Double renewalRate;
+}
@@ -0,0 +1,19 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+/**
+ * Current subscribers and recurring revenue of one of a creator's plans.
+ */
+@Getter @Setter @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class CreatorPlanAnalyticsDTO {
+    private Long planId;
+    private String name;
+    private Double price;
+    private Integer durationInDays;
+    private long activeSubscribers;
+
+    // Plan price normalized to a 30-day month, times active subscribers
+    private double monthlyRecurringRevenue;
+}
@@ -0,0 +1,46 @@
+package com.subscription.service.dto;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Output formats supported by the subscription export.
+ * <p>
+ * {@code arrow} is an Apache Arrow IPC stream: columns keep their types
+ * ({@code date32} dates, {@code float64} prices, {@code int} day counts), so
+ * consumers such as pandas/pyarrow or DuckDB load it without text parsing.
+ * </p>
+ */
+public enum ExportFormat {
+    CSV("csv", "text/csv", "csv"),
+    JSON("json", "application/json", "json"),
+    ARROW("arrow", "application/vnd.apache.arrow.stream", "arrows");
+
+    private final String param;
+    private final String contentType;
+    private final String fileExtension;
+
+    ExportFormat(String param, String contentType, String fileExtension) {
+        this.param = param;
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static Optional<ExportFormat> fromParam(String value) {
+        return Arrays.stream(values())
+                .filter(f -> f.param.equalsIgnoreCase(value))
+                .findFirst();
+    }
+}
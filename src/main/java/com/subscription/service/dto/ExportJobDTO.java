@@ -0,0 +1,24 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+import java.time.Instant;
+
+@Getter @Setter @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class ExportJobDTO {
+    private String id;
+    private String filter;
+
+    // queued, running, completed, failed
+    private String status;
+
+    // Set once completed
+    private Long rows;
+    private Long sizeBytes;
+    private String downloadUrl;
+
+    private Instant createdAt;
+    private Instant completedAt;
+    private String error;
+}
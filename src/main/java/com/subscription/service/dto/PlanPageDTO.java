@@ -0,0 +1,14 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class PlanPageDTO {
+    private List<PlanResponse> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
@@ -0,0 +1,19 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Subscription activity totals for one day of a rollup series.
+ */
+@Getter @Setter
+@AllArgsConstructor @NoArgsConstructor
+public class RollupPointDTO {
+    private LocalDate day;
+    private Long newCount;
+    private Long renewedCount;
+    private Long cancelledCount;
+    private Long expiredCount;
+    private Double revenue;
+}
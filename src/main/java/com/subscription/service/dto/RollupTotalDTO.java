@@ -0,0 +1,19 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+/**
+ * Subscription activity totals over a date range for one plan or creator.
+ */
+@Getter @Setter
+@AllArgsConstructor @NoArgsConstructor
+public class RollupTotalDTO {
+
+    // Plan ID or creator ID, depending on the breakdown requested
+    private String key;
+    private Long newCount;
+    private Long renewedCount;
+    private Long cancelledCount;
+    private Long expiredCount;
+    private Double revenue;
+}
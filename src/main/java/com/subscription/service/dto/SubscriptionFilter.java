@@ -0,0 +1,34 @@
+package com.subscription.service.dto;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Status filters accepted by the dashboard listing and export endpoints.
+ */
+public enum SubscriptionFilter {
+    ALL("all"),
+    ACTIVE("active"),
+    CANCELLED("cancelled"),
+    EXPIRED("expired"),
+    SOON_EXPIRED("soon-expired");
+
+    private final String param;
+
+    SubscriptionFilter(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    /**
+     * Resolves a request parameter such as {@code "soon-expired"} (case-insensitive).
+     */
+    public static Optional<SubscriptionFilter> fromParam(String value) {
+        return Arrays.stream(values())
+                .filter(f -> f.param.equalsIgnoreCase(value))
+                .findFirst();
+    }
+}
@@ -7,6 +7,7 @@ import java.time.LocalDate;
 @Getter @Setter @Builder
 @AllArgsConstructor @NoArgsConstructor
 public class SubscriptionListItemDTO {
+    private Long id;
     private String fanName;
 
     // Creator info (from Plan)
@@ -0,0 +1,56 @@
+package com.subscription.service.dto;
+
+import com.subscription.service.entity.Plan;
+import com.subscription.service.entity.Subscription;
+import com.subscription.service.entity.SubscriptionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * Flat, read-only projection of a subscription joined with its plan.
+ * <p>
+ * Selected with a JPQL/Criteria constructor expression so dashboard listings
+ * read exactly the columns they render in one joined query, without hydrating
+ * managed {@link Subscription} and {@link Plan} entities. The constructor
+ * parameter order is part of the query contract.
+ * </p>
+ */
+@Getter
+@AllArgsConstructor
+public class SubscriptionListRow {
+    private Long id;
+    private String firstName;
+    private String lastName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private SubscriptionStatus status;
+    private Boolean autoRenewal;
+
+    // Plan columns
+    private Long planId;
+    private String planName;
+    private Double price;
+    private Integer durationInDays;
+    private String creatorId;
+    private String creatorFirstName;
+    private String creatorLastName;
+
+    /**
+     * Builds a row from an already loaded entity, for write paths that return the updated item.
+     */
+    public static SubscriptionListRow from(Subscription s) {
+        Plan p = s.getPlan();
+        return new SubscriptionListRow(
+                s.getId(), s.getFirstName(), s.getLastName(), s.getStartDate(), s.getEndDate(),
+                s.getStatus(), s.getAutoRenewal(),
+                p != null ? p.getId() : null,
+                p != null ? p.getName() : null,
+                p != null ? p.getPrice() : null,
+                p != null ? p.getDurationInDays() : null,
+                p != null ? p.getCreatorId() : null,
+                p != null ? p.getFirstName() : null,
+                p != null ? p.getLastName() : null);
+    }
+}
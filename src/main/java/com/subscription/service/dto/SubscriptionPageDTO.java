@@ -0,0 +1,22 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class SubscriptionPageDTO {
+    private List<SubscriptionListItemDTO> items;
+
+    // Offset paging only
+    private Integer page;
+    private int size;
+    private boolean hasNext;
+
+    // Keyset paging only; pass back as ?cursor= to fetch the next page
+    private String nextCursor;
+
+    // Null when the count was skipped (includeTotal=false)
+    private Long totalElements;
+}
@@ -0,0 +1,24 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Paging parameters for the dashboard subscription listing.
+ * <p>
+ * When {@code page} is set the listing uses offset paging; otherwise it uses
+ * keyset paging, starting from {@code cursor} (or from the first row when the
+ * cursor is {@code null}).
+ * </p>
+ */
+@Getter @Setter @Builder
+@AllArgsConstructor @NoArgsConstructor
+public class SubscriptionPageRequest {
+    private SubscriptionFilter filter;
+    private Integer page;
+    private int size;
+    private String cursor;
+    private SubscriptionSort sort;
+    private Sort.Direction direction;
+    private boolean includeTotal;
+}
@@ -0,0 +1,29 @@
+package com.subscription.service.dto;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Sort keys supported by the paginated dashboard listing. Every sort ends
+ * with {@code id} as a tie-breaker so keyset cursors are unambiguous.
+ */
+public enum SubscriptionSort {
+    ID("id"),
+    END_DATE("endDate");
+
+    private final String param;
+
+    SubscriptionSort(String param) {
+        this.param = param;
+    }
+
+    public String getParam() {
+        return param;
+    }
+
+    public static Optional<SubscriptionSort> fromParam(String value) {
+        return Arrays.stream(values())
+                .filter(s -> s.param.equalsIgnoreCase(value) || s.name().equalsIgnoreCase(value))
+                .findFirst();
+    }
+}
@@ -0,0 +1,15 @@
+package com.subscription.service.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * A plan listing together with the version tag (ETag) of exactly these plans.
+ */
+@Getter
+@AllArgsConstructor
+public class VersionedPlanList {
+    private String version;
+    private List<PlanResponse> plans;
+}
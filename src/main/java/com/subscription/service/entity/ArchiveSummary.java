@@ -0,0 +1,53 @@
+package com.subscription.service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Count and revenue of archived subscriptions for one end month, plan,
+ * creator and final status.
+ * <p>
+ * Incremented by the archive job in the same statement that moves the rows,
+ * so totals over archived history stay available after the detail rows have
+ * left the live table. Rows without a plan are stored under
+ * {@code plan_id = 0} and an empty {@code creator_id}, as in {@link DailyRollup}.
+ * </p>
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "subscription_archive_summary")
+public class ArchiveSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // First day of the month the subscriptions ended in
+    @Column(name = "month", nullable = false)
+    private LocalDate month;
+
+    @Column(name = "plan_id", nullable = false)
+    private Long planId;
+
+    @Column(name = "creator_id", nullable = false)
+    private String creatorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private SubscriptionStatus status;
+
+    @Column(name = "subscription_count", nullable = false)
+    private long subscriptionCount;
+
+    // Sum of plan prices at archive time
+    @Column(name = "revenue", nullable = false)
+    private double revenue;
+}
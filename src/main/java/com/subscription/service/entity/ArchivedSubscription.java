@@ -0,0 +1,66 @@
+package com.subscription.service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A cancelled or expired subscription moved out of {@code subscription} by the
+ * archive job.
+ * <p>
+ * Rows keep their original ID and are never updated. The plan is referenced by
+ * ID only; {@code price} is the plan price at archive time, the same value that
+ * was added to {@link ArchiveSummary}.
+ * </p>
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "subscription_archive")
+public class ArchivedSubscription {
+
+    @Id
+    @Column(name = "id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false, length = 100)
+    private String userId;
+
+    @Column(name = "plan_id")
+    private Long planId;
+
+    @Column(name = "creator_id")
+    private String creatorId;
+
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "end_date")
+    private LocalDate endDate;
+
+    @Column(name = "first_name")
+    private String firstName;
+
+    @Column(name = "last_name")
+    private String lastName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private SubscriptionStatus status;
+
+    @Column(name = "auto_renewal")
+    private Boolean autoRenewal;
+
+    @Column(name = "price")
+    private Double price;
+
+    @Column(name = "archived_at", nullable = false)
+    private Instant archivedAt;
+}
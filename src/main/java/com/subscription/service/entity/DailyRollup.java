@@ -0,0 +1,56 @@
+package com.subscription.service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Pre-aggregated subscription activity for one day, plan and creator.
+ * <p>
+ * Rows are produced from {@link SubscriptionActivity} by the daily rollup job
+ * and are immutable once their day has been processed. Activity without a plan
+ * is stored under {@code plan_id = 0} and an empty {@code creator_id} so the
+ * unique key {@code (day, plan_id, creator_id)} stays total.
+ * </p>
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "daily_rollup")
+public class DailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "plan_id", nullable = false)
+    private Long planId;
+
+    @Column(name = "creator_id", nullable = false)
+    private String creatorId;
+
+    @Column(name = "new_count", nullable = false)
+    private long newCount;
+
+    @Column(name = "renewed_count", nullable = false)
+    private long renewedCount;
+
+    @Column(name = "cancelled_count", nullable = false)
+    private long cancelledCount;
+
+    @Column(name = "expired_count", nullable = false)
+    private long expiredCount;
+
+    // Price of new and renewed subscriptions
+    @Column(name = "revenue", nullable = false)
+    private double revenue;
+}
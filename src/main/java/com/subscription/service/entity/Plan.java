@@ -5,6 +5,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 
 @Entity
 @Data
@@ -38,4 +41,9 @@ public class Plan {
     @Column(name = "creator_id", nullable = false)
     private String creatorId;
 
+    // Set by Hibernate on insert/update; used to build ETags for plan reads
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
 }
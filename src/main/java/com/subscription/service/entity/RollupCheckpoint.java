@@ -0,0 +1,36 @@
+package com.subscription.service.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Last day fully processed by a rollup job, so each run only aggregates the
+ * days that are still missing.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "rollup_checkpoint")
+public class RollupCheckpoint {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    @Column(name = "last_day", nullable = false)
+    private LocalDate lastDay;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -2,6 +2,9 @@ package com.subscription.service.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.Instant;
 import java.time.LocalDate;
 
 /**
@@ -21,7 +24,9 @@ import java.time.LocalDate;
 public class Subscription {
 
     /**
-     * Primary key for the subscription record.
+     * Primary key for the subscription record. Assigned by the column default
+     * ({@code subscription_id_seq}); the table is partitioned and has no identity column.
+     * Uniqueness is enforced by a unique index on each partition (migration V8).
      */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -42,6 +47,14 @@ public class Subscription {
     @JoinColumn(name = "plan_id")
     private Plan plan;
 
+    /**
+     * Creator of {@link #plan}, copied at subscribe time so "one active
+     * subscription per creator" can be checked and enforced on this table
+     * alone (partial unique index {@code uk_subscription_active_user_creator}).
+     */
+    @Column(name = "creator_id")
+    private String creatorId;
+
     /**
      * The date when the subscription starts.
      */
@@ -73,4 +86,12 @@ public class Subscription {
     @Column(name = "auto_renewal")
     private Boolean autoRenewal;
 
+    /**
+     * Last modification time. Set by Hibernate on insert/update and by the
+     * nightly expiry SQL; used to build ETags for subscription reads.
+     */
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
 }
@@ -0,0 +1,55 @@
+package com.subscription.service.entity;
+
+import com.subscription.service.event.SubscriptionChangeType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Append-only journal of subscription lifecycle changes.
+ * <p>
+ * One row is written per {@link com.subscription.service.event.SubscriptionChange},
+ * in the same transaction as the change itself. The daily rollup job
+ * aggregates these rows by {@code activity_date}. Plan, creator and price are
+ * copied at the time of the change so later plan edits do not rewrite history.
+ * </p>
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "subscription_activity")
+public class SubscriptionActivity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "subscription_id", nullable = false)
+    private Long subscriptionId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private SubscriptionChangeType type;
+
+    @Column(name = "activity_date", nullable = false)
+    private LocalDate activityDate;
+
+    @Column(name = "plan_id")
+    private Long planId;
+
+    @Column(name = "creator_id")
+    private String creatorId;
+
+    @Column(name = "price")
+    private Double price;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+}
@@ -1,7 +1,13 @@
 package com.subscription.service.entity;
+
+/**
+ * Stored status of a subscription. "Soon expired" is not a status: it is an
+ * ACTIVE subscription ending within a week, derived when listing
+ * ({@code SubscriptionFilter.SOON_EXPIRED}). The status CHECK constraint
+ * (migration V3) allows exactly these values.
+ */
 public enum SubscriptionStatus {
     ACTIVE,
     CANCELLED,
-    EXPIRED,
-    SOON_EXPIRED
-}
\ No newline at end of file
+    EXPIRED
+}
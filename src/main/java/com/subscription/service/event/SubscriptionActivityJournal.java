@@ -0,0 +1,50 @@
+package com.subscription.service.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Writes every {@link SubscriptionChangedEvent} to the {@code subscription_activity}
+ * journal.
+ * <p>
+ * This is a plain synchronous listener, so the insert joins the transaction
+ * that published the event: the journal row commits or rolls back together
+ * with the subscription change it describes.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SubscriptionActivityJournal {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO subscription_activity
+                (subscription_id, type, activity_date, plan_id, creator_id, price, occurred_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        Timestamp occurredAt = Timestamp.from(event.getOccurredAt());
+        Date activityDate = Date.valueOf(LocalDate.ofInstant(event.getOccurredAt(), ZoneId.systemDefault()));
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, event.getChanges().stream()
+                .map(change -> new Object[]{
+                        change.getSubscriptionId(),
+                        change.getType().name(),
+                        activityDate,
+                        change.getPlanId(),
+                        change.getCreatorId(),
+                        change.getPrice(),
+                        occurredAt})
+                .toList());
+    }
+}
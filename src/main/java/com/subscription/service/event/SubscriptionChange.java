@@ -0,0 +1,59 @@
+package com.subscription.service.event;
+
+import com.subscription.service.entity.Plan;
+import com.subscription.service.entity.Subscription;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+
+/**
+ * One subscription lifecycle transition with the row state before and after it.
+ * <p>
+ * The {@code previous*} fields describe the row before the change and are
+ * {@code null}/{@code false} for {@link SubscriptionChangeType#CREATED}.
+ * Consumers that keep derived state (counters, rollups) can subtract the
+ * previous contribution and add the new one without reading the row again.
+ * </p>
+ */
+@Value
+@Builder
+public class SubscriptionChange {
+    Long subscriptionId;
+    SubscriptionChangeType type;
+    String userId;
+
+    // Plan at the time of the change
+    Long planId;
+    String creatorId;
+    Double price;
+
+    LocalDate previousStartDate;
+    LocalDate previousEndDate;
+    boolean previouslyActive;
+
+    LocalDate startDate;
+    LocalDate endDate;
+    boolean active;
+
+    /**
+     * Change for a subscription that has just been marked cancelled; dates are unchanged.
+     */
+    public static SubscriptionChange cancelled(Subscription s, boolean wasActive) {
+        Plan p = s.getPlan();
+        return SubscriptionChange.builder()
+                .subscriptionId(s.getId())
+                .type(SubscriptionChangeType.CANCELLED)
+                .userId(s.getUserId())
+                .planId(p != null ? p.getId() : null)
+                .creatorId(p != null ? p.getCreatorId() : null)
+                .price(p != null ? p.getPrice() : null)
+                .previousStartDate(s.getStartDate())
+                .previousEndDate(s.getEndDate())
+                .previouslyActive(wasActive)
+                .startDate(s.getStartDate())
+                .endDate(s.getEndDate())
+                .active(false)
+                .build();
+    }
+}
@@ -0,0 +1,8 @@
+package com.subscription.service.event;
+
+public enum SubscriptionChangeType {
+    CREATED,
+    CANCELLED,
+    RENEWED,
+    EXPIRED
+}
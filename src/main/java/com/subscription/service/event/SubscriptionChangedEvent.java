@@ -0,0 +1,28 @@
+package com.subscription.service.event;
+
+import lombok.Value;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Application event carrying the subscription changes made by one unit of work:
+ * a single subscribe/cancel, or one chunk of the nightly expiry run.
+ * <p>
+ * Published inside the writing transaction; listeners that must only see
+ * committed data use {@code @TransactionalEventListener}.
+ * </p>
+ */
+@Value
+public class SubscriptionChangedEvent {
+    List<SubscriptionChange> changes;
+    Instant occurredAt;
+
+    public static SubscriptionChangedEvent of(List<SubscriptionChange> changes) {
+        return new SubscriptionChangedEvent(List.copyOf(changes), Instant.now());
+    }
+
+    public static SubscriptionChangedEvent of(SubscriptionChange change) {
+        return of(List.of(change));
+    }
+}
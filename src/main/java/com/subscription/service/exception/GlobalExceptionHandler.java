@@ -4,12 +4,22 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Map;
 
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    // Keeps the status chosen where the request was rejected (400, 403, 404, 409, 503) instead of a 500
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<?> handleStatus(ResponseStatusException e) {
+        String reason = e.getReason() != null ? e.getReason() : e.getStatusCode().toString();
+        return ResponseEntity.status(e.getStatusCode())
+                .headers(e.getHeaders())
+                .body(Map.of("error", reason));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<?> handle(Exception e) {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
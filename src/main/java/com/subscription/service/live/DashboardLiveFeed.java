@@ -0,0 +1,257 @@
+package com.subscription.service.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.subscription.service.dto.SubscriptionListItemDTO;
+import com.subscription.service.dto.SubscriptionListRow;
+import com.subscription.service.dto.SubscriptionStatsDTO;
+import com.subscription.service.event.SubscriptionChange;
+import com.subscription.service.event.SubscriptionChangedEvent;
+import com.subscription.service.repository.DashboardRepository;
+import com.subscription.service.service.SubscriptionStatsService;
+import com.subscription.service.service.impl.SubscriptionListItemMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process broadcaster behind {@code GET /api/dashboard/live}.
+ * <p>
+ * Committed {@link SubscriptionChangedEvent}s only record the changed
+ * subscription IDs. Every {@code subscription.live.flush-interval} the pending
+ * IDs are loaded with one query, mapped and serialized once, and the stats
+ * snapshot is read once; the resulting frames are then fanned out to every
+ * client. The cost per flush is independent of the number of open dashboards.
+ * When more than {@code subscription.live.max-pending} IDs accumulate between
+ * flushes (a bulk expiry or batch call), they are not loaded; every client is
+ * sent {@code resync} instead, which keeps the query within PostgreSQL's bind
+ * parameter limit and the pending set bounded.
+ * </p>
+ * <p>
+ * Each client has its own bounded queue ({@code subscription.live.client-buffer})
+ * drained by its own virtual thread, so a slow connection only delays itself.
+ * When a client's queue overflows, its backlog is replaced by a single
+ * {@code resync} event telling it to reload instead of buffering without bound.
+ * Only changes made through this instance are seen.
+ * </p>
+ * <p>
+ * Events: {@code stats} (a {@link SubscriptionStatsDTO}, sent on connect and
+ * whenever it changes), {@code subscriptions} (an array of changed
+ * {@link SubscriptionListItemDTO} rows) and {@code resync}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class DashboardLiveFeed {
+
+    private static final Frame RESYNC = new Frame("resync", "{}");
+    private static final Frame HEARTBEAT = new Frame(null, null);
+
+    private final DashboardRepository dashboardRepository;
+    private final SubscriptionListItemMapper mapper;
+    private final SubscriptionStatsService statsService;
+    private final ObjectMapper objectMapper;
+    private final int clientBuffer;
+    private final int maxClients;
+    private final Duration emitterTimeout;
+    private final int maxPending;
+
+    private final Map<Long, Client> clients = new ConcurrentHashMap<>();
+    private final Set<Long> pendingIds = ConcurrentHashMap.newKeySet();
+    private final AtomicLong clientIds = new AtomicLong();
+
+    // Written only by the flush thread
+    private SubscriptionStatsDTO lastStats;
+
+    public DashboardLiveFeed(DashboardRepository dashboardRepository,
+                             SubscriptionListItemMapper mapper,
+                             SubscriptionStatsService statsService,
+                             ObjectMapper objectMapper,
+                             @Value("${subscription.live.client-buffer:256}") int clientBuffer,
+                             @Value("${subscription.live.max-clients:1000}") int maxClients,
+                             @Value("${subscription.live.emitter-timeout:PT30M}") Duration emitterTimeout,
+                             @Value("${subscription.live.max-pending:1000}") int maxPending) {
+        this.dashboardRepository = dashboardRepository;
+        this.mapper = mapper;
+        this.statsService = statsService;
+        this.objectMapper = objectMapper;
+        this.clientBuffer = clientBuffer;
+        this.maxClients = maxClients;
+        this.emitterTimeout = emitterTimeout;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Registers a new client and queues the current stats as its first event.
+     *
+     * @throws ResponseStatusException 503 when {@code subscription.live.max-clients} are connected
+     */
+    public SseEmitter connect() {
+        if (clients.size() >= maxClients) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many live dashboard clients");
+        }
+        SseEmitter emitter = new SseEmitter(emitterTimeout.toMillis());
+        Client client = new Client(clientIds.incrementAndGet(), emitter, new ArrayBlockingQueue<>(clientBuffer));
+
+        emitter.onCompletion(() -> disconnect(client));
+        emitter.onTimeout(() -> disconnect(client));
+        emitter.onError(e -> disconnect(client));
+
+        clients.put(client.id, client);
+        client.offer(new Frame("stats", toJson(statsService.getStats())));
+        client.sender = Thread.ofVirtual().name("dashboard-live-" + client.id).start(() -> drain(client));
+        log.debug("Live dashboard client {} connected ({} open)", client.id, clients.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        if (clients.isEmpty()) {
+            return;
+        }
+        for (SubscriptionChange change : event.getChanges()) {
+            // Past the cap the next flush resyncs anyway, so further IDs are not worth keeping
+            if (pendingIds.size() > maxPending) {
+                return;
+            }
+            pendingIds.add(change.getSubscriptionId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${subscription.live.flush-interval:PT0.5S}")
+    public void flush() {
+        if (clients.isEmpty()) {
+            pendingIds.clear();
+            return;
+        }
+
+        List<Frame> frames = new ArrayList<>(2);
+        SubscriptionStatsDTO stats = statsService.getStats();
+        if (!stats.equals(lastStats)) {
+            lastStats = stats;
+            frames.add(new Frame("stats", toJson(stats)));
+        }
+
+        if (!pendingIds.isEmpty()) {
+            List<Long> ids = new ArrayList<>(pendingIds);
+            pendingIds.removeAll(ids);
+            if (ids.size() > maxPending) {
+                log.debug("{} pending live dashboard changes, sending resync", ids.size());
+                frames.add(RESYNC);
+            } else {
+                frames.addAll(subscriptionsFrame(ids));
+            }
+        }
+
+        for (Frame frame : frames) {
+            for (Client client : clients.values()) {
+                client.offer(frame);
+            }
+        }
+    }
+
+    // Empty when none of the IDs is still visible, e.g. archived since the change
+    private List<Frame> subscriptionsFrame(List<Long> ids) {
+        SubscriptionListItemMapper.Session session = mapper.newSession(LocalDate.now());
+        List<SubscriptionListItemDTO> items = new ArrayList<>(ids.size());
+        for (SubscriptionListRow row : dashboardRepository.findRowsByIds(ids)) {
+            items.add(session.toListItem(row));
+        }
+        return items.isEmpty() ? List.of() : List.of(new Frame("subscriptions", toJson(items)));
+    }
+
+    // Keeps idle connections open through proxies; a failed write disconnects clients that went away.
+    // Skipped for clients whose queue is full, since they have frames to send anyway.
+    @Scheduled(fixedDelayString = "${subscription.live.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        for (Client client : clients.values()) {
+            client.queue.offer(HEARTBEAT);
+        }
+    }
+
+    private void drain(Client client) {
+        try {
+            while (!client.closed) {
+                // Timed so a sender whose client disconnected before it started still exits
+                Frame frame = client.queue.poll(1, TimeUnit.SECONDS);
+                if (frame == HEARTBEAT) {
+                    client.emitter.send(SseEmitter.event().comment("keep-alive"));
+                } else if (frame != null) {
+                    client.emitter.send(SseEmitter.event()
+                            .name(frame.name())
+                            .data(frame.json(), MediaType.APPLICATION_JSON));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Live dashboard client {} failed: {}", client.id, e.getMessage());
+            disconnect(client);
+            client.emitter.completeWithError(e);
+        }
+    }
+
+    private void disconnect(Client client) {
+        if (clients.remove(client.id) != null) {
+            client.closed = true;
+            if (client.sender != null) {
+                client.sender.interrupt();
+            }
+            log.debug("Live dashboard client {} disconnected ({} open)", client.id, clients.size());
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Cannot serialize live dashboard event", e);
+        }
+    }
+
+    // An event serialized once and shared by every client queue
+    private record Frame(String name, String json) {
+    }
+
+    private static final class Client {
+        private final long id;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Frame> queue;
+        private volatile Thread sender;
+        private volatile boolean closed;
+
+        private Client(long id, SseEmitter emitter, BlockingQueue<Frame> queue) {
+            this.id = id;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        // Never blocks the flush thread: on overflow the backlog is dropped in favour of one resync
+        private void offer(Frame frame) {
+            if (!queue.offer(frame)) {
+                queue.clear();
+                queue.offer(RESYNC);
+            }
+        }
+    }
+}
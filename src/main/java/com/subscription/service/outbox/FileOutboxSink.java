@@ -0,0 +1,51 @@
+package com.subscription.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends each event as one JSON line to a local file that consumers can tail.
+ * The default sink.
+ */
+@Component
+@ConditionalOnProperty(name = "subscription.outbox.sink", havingValue = "file", matchIfMissing = true)
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path file;
+
+    public FileOutboxSink(ObjectMapper objectMapper,
+                          @Value("${subscription.outbox.file:${java.io.tmpdir}/subscription-outbox/events.jsonl}") Path file) {
+        this.objectMapper = objectMapper;
+        this.file = file;
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create outbox directory for " + file, e);
+        }
+    }
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (OutboxMessage message : batch) {
+                writer.write(objectMapper.writeValueAsString(message));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append outbox events to " + file, e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.subscription.service.outbox;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Keeps published events in memory, for tests and local inspection.
+ * Unbounded; not meant for production use.
+ */
+@Component
+@ConditionalOnProperty(name = "subscription.outbox.sink", havingValue = "memory")
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final List<OutboxMessage> messages = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<OutboxMessage> batch) {
+        messages.addAll(batch);
+    }
+
+    public List<OutboxMessage> getMessages() {
+        return List.copyOf(messages);
+    }
+
+    public void clear() {
+        messages.clear();
+    }
+}
@@ -0,0 +1,19 @@
+package com.subscription.service.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.subscription.service.event.SubscriptionChangeType;
+
+import java.time.Instant;
+
+/**
+ * One {@code subscription_outbox} row as delivered to an {@link OutboxSink}.
+ *
+ * @param id             outbox row ID; unique per event, so consumers can deduplicate redeliveries
+ * @param subscriptionId the subscription the event is about
+ * @param type           lifecycle transition
+ * @param payload        the {@link com.subscription.service.event.SubscriptionChange} as JSON
+ * @param createdAt      when the change was written
+ */
+public record OutboxMessage(long id, long subscriptionId, SubscriptionChangeType type,
+                            @JsonRawValue String payload, Instant createdAt) {
+}
@@ -0,0 +1,120 @@
+package com.subscription.service.outbox;
+
+import com.subscription.service.event.SubscriptionChangeType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Drains {@code subscription_outbox} to the configured {@link OutboxSink}.
+ * <p>
+ * Each poll claims up to {@code subscription.outbox.batch-size} pending rows
+ * with {@code FOR UPDATE SKIP LOCKED}, hands them to the sink as one batch and
+ * marks them published in the same transaction, repeating until the backlog
+ * is empty. Several instances can poll concurrently without delivering a row
+ * twice; a sink failure rolls the batch back so it is retried on the next
+ * poll. Published rows are deleted after {@code subscription.outbox.retention}.
+ * </p>
+ */
+@Slf4j
+@Component
+public class OutboxPublisher {
+
+    private static final String SELECT_PENDING_SQL = """
+            SELECT id, subscription_id, type, payload::text AS payload, created_at
+            FROM subscription_outbox
+            WHERE published_at IS NULL
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String MARK_PUBLISHED_SQL =
+            "UPDATE subscription_outbox SET published_at = now() WHERE id = ANY(?)";
+
+    private static final String PURGE_SQL =
+            "DELETE FROM subscription_outbox WHERE published_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxSink sink;
+    private final int batchSize;
+    private final Duration retention;
+
+    public OutboxPublisher(JdbcTemplate jdbcTemplate,
+                           PlatformTransactionManager transactionManager,
+                           OutboxSink sink,
+                           @Value("${subscription.outbox.batch-size:500}") int batchSize,
+                           @Value("${subscription.outbox.retention:P7D}") Duration retention) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sink = sink;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${subscription.outbox.poll-interval:PT1S}")
+    public void poll() {
+        int published = publishPending();
+        if (published > 0) {
+            log.debug("Published {} outbox events", published);
+        }
+    }
+
+    /**
+     * Publishes every pending event.
+     *
+     * @return the number of events handed to the sink
+     */
+    public int publishPending() {
+        int total = 0;
+        while (true) {
+            Integer published = transactionTemplate.execute(status -> publishBatch());
+            int count = published != null ? published : 0;
+            total += count;
+            if (count < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${subscription.outbox.purge-interval:PT1H}")
+    public void purgePublished() {
+        int deleted = jdbcTemplate.update(PURGE_SQL, Timestamp.from(Instant.now().minus(retention)));
+        if (deleted > 0) {
+            log.info("Purged {} published outbox events", deleted);
+        }
+    }
+
+    private int publishBatch() {
+        List<OutboxMessage> batch = jdbcTemplate.query(SELECT_PENDING_SQL, (rs, i) -> mapMessage(rs), batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        sink.publish(batch);
+        Long[] ids = batch.stream().map(OutboxMessage::id).toArray(Long[]::new);
+        jdbcTemplate.update(MARK_PUBLISHED_SQL, (Object) ids);
+        return batch.size();
+    }
+
+    private static OutboxMessage mapMessage(ResultSet rs) throws SQLException {
+        return new OutboxMessage(
+                rs.getLong("id"),
+                rs.getLong("subscription_id"),
+                SubscriptionChangeType.valueOf(rs.getString("type")),
+                rs.getString("payload"),
+                rs.getTimestamp("created_at").toInstant());
+    }
+}
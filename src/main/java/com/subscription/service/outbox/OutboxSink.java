@@ -0,0 +1,17 @@
+package com.subscription.service.outbox;
+
+import java.util.List;
+
+/**
+ * Destination for outbox events, selected with {@code subscription.outbox.sink}.
+ * <p>
+ * {@link OutboxPublisher} calls {@link #publish} with batches in ascending ID
+ * order and marks the batch published only if the call returns normally.
+ * Throwing leaves every message in the batch pending, so it is delivered
+ * again on the next poll: delivery is at-least-once.
+ * </p>
+ */
+public interface OutboxSink {
+
+    void publish(List<OutboxMessage> batch);
+}
@@ -0,0 +1,56 @@
+package com.subscription.service.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.subscription.service.event.SubscriptionChange;
+import com.subscription.service.event.SubscriptionChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.sql.Timestamp;
+
+/**
+ * Writes every {@link SubscriptionChangedEvent} to {@code subscription_outbox}.
+ * <p>
+ * Like the activity journal this is a plain synchronous listener, so the
+ * outbox rows commit or roll back with the change they describe. Creates and
+ * cancels from both the user and dashboard APIs, batch operations and the
+ * nightly renew/expire run all publish this event.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class SubscriptionOutboxWriter {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO subscription_outbox (subscription_id, type, payload, created_at)
+            VALUES (?, ?, CAST(? AS jsonb), ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        Timestamp createdAt = Timestamp.from(event.getOccurredAt());
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, event.getChanges().stream()
+                .map(change -> new Object[]{
+                        change.getSubscriptionId(),
+                        change.getType().name(),
+                        toJson(change),
+                        createdAt})
+                .toList());
+    }
+
+    private String toJson(SubscriptionChange change) {
+        try {
+            return objectMapper.writeValueAsString(change);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException("Cannot serialize subscription change " + change.getSubscriptionId(), e);
+        }
+    }
+}
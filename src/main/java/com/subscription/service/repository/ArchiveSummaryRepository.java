@@ -0,0 +1,26 @@
+package com.subscription.service.repository;
+
+import com.subscription.service.dto.ArchiveSummaryDTO;
+import com.subscription.service.entity.ArchiveSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ArchiveSummaryRepository extends JpaRepository<ArchiveSummary, Long> {
+
+    @Query("""
+           SELECT new com.subscription.service.dto.ArchiveSummaryDTO(a.month,
+               SUM(CASE WHEN a.status = com.subscription.service.entity.SubscriptionStatus.CANCELLED
+                        THEN a.subscriptionCount ELSE 0 END),
+               SUM(CASE WHEN a.status = com.subscription.service.entity.SubscriptionStatus.EXPIRED
+                        THEN a.subscriptionCount ELSE 0 END),
+               SUM(a.revenue))
+           FROM ArchiveSummary a
+           WHERE a.month BETWEEN :from AND :to
+           GROUP BY a.month
+           ORDER BY a.month
+           """)
+    List<ArchiveSummaryDTO> findMonthlyTotals(LocalDate from, LocalDate to);
+}
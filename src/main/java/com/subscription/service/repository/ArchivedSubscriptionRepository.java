@@ -0,0 +1,35 @@
+package com.subscription.service.repository;
+
+import com.subscription.service.dto.SubscriptionListRow;
+import com.subscription.service.entity.ArchivedSubscription;
+import com.subscription.service.entity.SubscriptionStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface ArchivedSubscriptionRepository extends JpaRepository<ArchivedSubscription, Long> {
+
+    // Same projection as DashboardRepository.LIST_ROW_SELECT; the plan is joined by ID
+    String ARCHIVE_ROW_SELECT = """
+           SELECT new com.subscription.service.dto.SubscriptionListRow(
+               a.id, a.firstName, a.lastName, a.startDate, a.endDate, a.status, a.autoRenewal,
+               p.id, p.name, p.price, p.durationInDays, p.creatorId, p.firstName, p.lastName)
+           FROM ArchivedSubscription a LEFT JOIN Plan p ON p.id = a.planId
+           """;
+
+    @Query(ARCHIVE_ROW_SELECT + """
+           WHERE a.status IN :statuses
+           """)
+    Slice<SubscriptionListRow> findRowsByStatusIn(Collection<SubscriptionStatus> statuses, Pageable pageable);
+
+    @Query(ARCHIVE_ROW_SELECT + """
+           WHERE a.id = :id
+           """)
+    Optional<SubscriptionListRow> findRowById(Long id);
+
+    long countByStatusIn(Collection<SubscriptionStatus> statuses);
+}
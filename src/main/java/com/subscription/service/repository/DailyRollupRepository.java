@@ -0,0 +1,55 @@
+package com.subscription.service.repository;
+
+import com.subscription.service.dto.RollupPointDTO;
+import com.subscription.service.dto.RollupTotalDTO;
+import com.subscription.service.entity.DailyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface DailyRollupRepository extends JpaRepository<DailyRollup, Long> {
+
+    String SUMS = """
+           SUM(r.newCount), SUM(r.renewedCount), SUM(r.cancelledCount), SUM(r.expiredCount), SUM(r.revenue))
+           FROM DailyRollup r
+           """;
+
+    @Query("SELECT new com.subscription.service.dto.RollupPointDTO(r.day, " + SUMS + """
+           WHERE r.day BETWEEN :from AND :to
+           GROUP BY r.day
+           ORDER BY r.day
+           """)
+    List<RollupPointDTO> findDailySeries(LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.subscription.service.dto.RollupPointDTO(r.day, " + SUMS + """
+           WHERE r.planId = :planId
+             AND r.day BETWEEN :from AND :to
+           GROUP BY r.day
+           ORDER BY r.day
+           """)
+    List<RollupPointDTO> findDailySeriesByPlan(Long planId, LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.subscription.service.dto.RollupPointDTO(r.day, " + SUMS + """
+           WHERE r.creatorId = :creatorId
+             AND r.day BETWEEN :from AND :to
+           GROUP BY r.day
+           ORDER BY r.day
+           """)
+    List<RollupPointDTO> findDailySeriesByCreator(String creatorId, LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.subscription.service.dto.RollupTotalDTO(CAST(r.planId AS String), " + SUMS + """
+           WHERE r.day BETWEEN :from AND :to
+           GROUP BY r.planId
+           ORDER BY SUM(r.revenue) DESC
+           """)
+    List<RollupTotalDTO> findPlanTotals(LocalDate from, LocalDate to);
+
+    @Query("SELECT new com.subscription.service.dto.RollupTotalDTO(r.creatorId, " + SUMS + """
+           WHERE r.day BETWEEN :from AND :to
+           GROUP BY r.creatorId
+           ORDER BY SUM(r.revenue) DESC
+           """)
+    List<RollupTotalDTO> findCreatorTotals(LocalDate from, LocalDate to);
+}
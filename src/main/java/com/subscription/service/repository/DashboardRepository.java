@@ -1,34 +1,55 @@
 package com.subscription.service.repository;
+import com.subscription.service.dto.SubscriptionListRow;
 import com.subscription.service.entity.Subscription;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
-public interface DashboardRepository extends JpaRepository<Subscription, Long> {
-    @Query("""
-           SELECT s FROM Subscription s
+import java.util.Optional;
+public interface DashboardRepository extends JpaRepository<Subscription, Long>, DashboardRepositoryCustom {
+
+    // Constructor projection shared by every listing query: one joined SELECT, no entity hydration
+    String LIST_ROW_SELECT = """
+           SELECT new com.subscription.service.dto.SubscriptionListRow(
+               s.id, s.firstName, s.lastName, s.startDate, s.endDate, s.status, s.autoRenewal,
+               p.id, p.name, p.price, p.durationInDays, p.creatorId, p.firstName, p.lastName)
+           FROM Subscription s LEFT JOIN s.plan p
+           """;
+
+    @Query(LIST_ROW_SELECT)
+    List<SubscriptionListRow> findAllRows();
+
+    @Query(LIST_ROW_SELECT + """
+           WHERE s.id = :id
+           """)
+    Optional<SubscriptionListRow> findRowById(Long id);
+
+    @Query(LIST_ROW_SELECT + """
+           WHERE s.id IN :ids
+           """)
+    List<SubscriptionListRow> findRowsByIds(Collection<Long> ids);
+
+    @Query(LIST_ROW_SELECT + """
            WHERE s.status = com.subscription.service.entity.SubscriptionStatus.ACTIVE
              AND s.endDate >= CURRENT_DATE
            """)
-    List<Subscription> findAllActive();
+    List<SubscriptionListRow> findAllActive();
 
-    @Query("""
-           SELECT s FROM Subscription s
+    @Query(LIST_ROW_SELECT + """
            WHERE s.status = com.subscription.service.entity.SubscriptionStatus.ACTIVE
              AND s.endDate BETWEEN :today AND :after7
            """)
-    List<Subscription> findAllSoonExpired(LocalDate today, LocalDate after7);
+    List<SubscriptionListRow> findAllSoonExpired(LocalDate today, LocalDate after7);
 
     // Cancelled only
-    @Query("""
-           SELECT s FROM Subscription s
+    @Query(LIST_ROW_SELECT + """
            WHERE s.status = com.subscription.service.entity.SubscriptionStatus.CANCELLED
            """)
-    List<Subscription> findAllCancelled();
+    List<SubscriptionListRow> findAllCancelled();
 
-    @Query("""
-           SELECT s FROM Subscription s
+    @Query(LIST_ROW_SELECT + """
            WHERE s.status = com.subscription.service.entity.SubscriptionStatus.EXPIRED
            """)
-    List<Subscription> findAllExpired();
+    List<SubscriptionListRow> findAllExpired();
 }
@@ -0,0 +1,48 @@
+package com.subscription.service.repository;
+
+import com.subscription.service.dto.SubscriptionFilter;
+import com.subscription.service.dto.SubscriptionListRow;
+import com.subscription.service.dto.SubscriptionSort;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+/**
+ * Bounded listing queries for the admin dashboard, returning
+ * {@link SubscriptionListRow} projections.
+ * <p>
+ * Neither query counts rows; call {@link #countByFilter} separately when a
+ * total is needed.
+ * </p>
+ */
+public interface DashboardRepositoryCustom {
+
+    /**
+     * Offset page of subscriptions matching {@code filter}, ordered by {@code pageable}'s sort.
+     */
+    Slice<SubscriptionListRow> findSlice(SubscriptionFilter filter, LocalDate today, Pageable pageable);
+
+    /**
+     * Keyset window of at most {@code limit} subscriptions matching {@code filter}
+     * that come after {@code position} in {@code sort}/{@code direction} order.
+     * Position keys are {@code id} and, for {@link SubscriptionSort#END_DATE}, {@code endDate}.
+     */
+    Window<SubscriptionListRow> findWindow(SubscriptionFilter filter, LocalDate today,
+                                    SubscriptionSort sort, Sort.Direction direction,
+                                    KeysetScrollPosition position, int limit);
+
+    long countByFilter(SubscriptionFilter filter, LocalDate today);
+
+    /**
+     * Forward-only stream over every subscription matching {@code filter}, read
+     * {@code fetchSize} rows per round-trip. Must be consumed inside a
+     * transaction (PostgreSQL only uses a server-side cursor when autocommit is
+     * off) and closed by the caller.
+     */
+    Stream<SubscriptionListRow> streamByFilter(SubscriptionFilter filter, LocalDate today, int fetchSize);
+}
@@ -0,0 +1,199 @@
+package com.subscription.service.repository;
+
+import com.subscription.service.dto.SubscriptionFilter;
+import com.subscription.service.dto.SubscriptionListRow;
+import com.subscription.service.dto.SubscriptionSort;
+import com.subscription.service.entity.Plan;
+import com.subscription.service.entity.Subscription;
+import com.subscription.service.entity.SubscriptionStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.*;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Criteria-based implementation of {@link DashboardRepositoryCustom}.
+ * <p>
+ * Both listing queries select a {@link SubscriptionListRow} constructor
+ * projection over {@code subscription LEFT JOIN plan} and fetch one row more
+ * than requested to detect whether another page exists, so each page is a
+ * single statement and no {@code COUNT(*)} is issued.
+ * </p>
+ */
+public class DashboardRepositoryImpl implements DashboardRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<SubscriptionListRow> findSlice(SubscriptionFilter filter, LocalDate today, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SubscriptionListRow> cq = cb.createQuery(SubscriptionListRow.class);
+        Root<Subscription> s = cq.from(Subscription.class);
+
+        cq.select(listRow(cb, s))
+                .where(filterPredicates(cb, s, filter, today).toArray(Predicate[]::new))
+                .orderBy(toOrders(cb, s, pageable.getSort()));
+
+        List<SubscriptionListRow> rows = entityManager.createQuery(cq)
+                .setFirstResult(Math.toIntExact(pageable.getOffset()))
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public Window<SubscriptionListRow> findWindow(SubscriptionFilter filter, LocalDate today,
+                                                  SubscriptionSort sort, Sort.Direction direction,
+                                                  KeysetScrollPosition position, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SubscriptionListRow> cq = cb.createQuery(SubscriptionListRow.class);
+        Root<Subscription> s = cq.from(Subscription.class);
+
+        List<Predicate> predicates = filterPredicates(cb, s, filter, today);
+        if (!position.isInitial()) {
+            predicates.add(keysetPredicate(cb, s, sort, direction, position.getKeys()));
+        }
+
+        cq.select(listRow(cb, s))
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(toOrders(cb, s, toSort(sort, direction)));
+
+        List<SubscriptionListRow> rows = entityManager.createQuery(cq)
+                .setMaxResults(limit + 1)
+                .getResultList();
+
+        boolean hasNext = rows.size() > limit;
+        List<SubscriptionListRow> window = hasNext ? rows.subList(0, limit) : rows;
+        return Window.from(window, i -> ScrollPosition.forward(keysOf(window.get(i), sort)), hasNext);
+    }
+
+    @Override
+    public long countByFilter(SubscriptionFilter filter, LocalDate today) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Subscription> s = cq.from(Subscription.class);
+
+        cq.select(cb.count(s)).where(filterPredicates(cb, s, filter, today).toArray(Predicate[]::new));
+        return entityManager.createQuery(cq).getSingleResult();
+    }
+
+    @Override
+    public Stream<SubscriptionListRow> streamByFilter(SubscriptionFilter filter, LocalDate today, int fetchSize) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<SubscriptionListRow> cq = cb.createQuery(SubscriptionListRow.class);
+        Root<Subscription> s = cq.from(Subscription.class);
+
+        cq.select(listRow(cb, s)).where(filterPredicates(cb, s, filter, today).toArray(Predicate[]::new));
+        return entityManager.createQuery(cq)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    /**
+     * Criteria equivalent of {@link DashboardRepository#LIST_ROW_SELECT}.
+     */
+    private CompoundSelection<SubscriptionListRow> listRow(CriteriaBuilder cb, Root<Subscription> s) {
+        Join<Subscription, Plan> p = s.join("plan", JoinType.LEFT);
+        return cb.construct(SubscriptionListRow.class,
+                s.get("id"), s.get("firstName"), s.get("lastName"), s.get("startDate"), s.get("endDate"),
+                s.get("status"), s.get("autoRenewal"),
+                p.get("id"), p.get("name"), p.get("price"), p.get("durationInDays"), p.get("creatorId"),
+                p.get("firstName"), p.get("lastName"));
+    }
+
+    /**
+     * Same semantics as the {@code findAll*} queries on {@link DashboardRepository}.
+     */
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Subscription> s,
+                                             SubscriptionFilter filter, LocalDate today) {
+        List<Predicate> predicates = new ArrayList<>();
+        Path<SubscriptionStatus> status = s.get("status");
+        Path<LocalDate> endDate = s.get("endDate");
+
+        switch (filter) {
+            case ACTIVE -> {
+                predicates.add(cb.equal(status, SubscriptionStatus.ACTIVE));
+                predicates.add(cb.greaterThanOrEqualTo(endDate, today));
+            }
+            case SOON_EXPIRED -> {
+                predicates.add(cb.equal(status, SubscriptionStatus.ACTIVE));
+                predicates.add(cb.between(endDate, today, today.plusDays(7)));
+            }
+            case CANCELLED -> predicates.add(cb.equal(status, SubscriptionStatus.CANCELLED));
+            case EXPIRED -> predicates.add(cb.equal(status, SubscriptionStatus.EXPIRED));
+            case ALL -> { }
+        }
+        return predicates;
+    }
+
+    /**
+     * Rows strictly after the cursor row in {@code (endDate, id)} or {@code (id)} order.
+     * <p>
+     * {@code end_date} is nullable. Rows without one sort with PostgreSQL's
+     * defaults, matching a forward or backward index scan: last when
+     * ascending, first when descending. A cursor row may itself have a null
+     * end date.
+     * </p>
+     */
+    private Predicate keysetPredicate(CriteriaBuilder cb, Root<Subscription> s,
+                                      SubscriptionSort sort, Sort.Direction direction,
+                                      Map<String, ?> keys) {
+        Path<Long> id = s.get("id");
+        Long lastId = (Long) keys.get("id");
+        Predicate afterId = direction.isAscending() ? cb.greaterThan(id, lastId) : cb.lessThan(id, lastId);
+
+        if (sort == SubscriptionSort.ID) {
+            return afterId;
+        }
+
+        Path<LocalDate> endDate = s.get("endDate");
+        LocalDate lastEndDate = (LocalDate) keys.get("endDate");
+        if (lastEndDate == null) {
+            Predicate afterInNullGroup = cb.and(cb.isNull(endDate), afterId);
+            // Ascending: nothing follows the trailing null group. Descending: every dated row does.
+            return direction.isAscending() ? afterInNullGroup : cb.or(afterInNullGroup, cb.isNotNull(endDate));
+        }
+
+        Predicate afterEndDate = direction.isAscending()
+                ? cb.greaterThan(endDate, lastEndDate)
+                : cb.lessThan(endDate, lastEndDate);
+        Predicate after = cb.or(afterEndDate, cb.and(cb.equal(endDate, lastEndDate), afterId));
+        return direction.isAscending() ? cb.or(after, cb.isNull(endDate)) : after;
+    }
+
+    private static Sort toSort(SubscriptionSort sort, Sort.Direction direction) {
+        return sort == SubscriptionSort.ID
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, "endDate", "id");
+    }
+
+    private static List<Order> toOrders(CriteriaBuilder cb, Root<Subscription> s, Sort sort) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<?> path = s.get(order.getProperty());
+            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+        }
+        return orders;
+    }
+
+    private static Map<String, Object> keysOf(SubscriptionListRow row, SubscriptionSort sort) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        if (sort == SubscriptionSort.END_DATE) {
+            keys.put("endDate", row.getEndDate());
+        }
+        keys.put("id", row.getId());
+        return keys;
+    }
+}
@@ -1,12 +1,19 @@
 package com.subscription.service.repository;
 
 import com.subscription.service.entity.Subscription;
+import com.subscription.service.entity.SubscriptionStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface SubscriptionRepository extends JpaRepository<Subscription, Long> {
 
+    // Fetch the plan in the same query instead of one select per subscription
+    @EntityGraph(attributePaths = "plan")
     List<Subscription> findByUserId(String userId);
 
+    // Single probe of the partial unique index on (user_id, creator_id) WHERE status = 'ACTIVE'
+    boolean existsByUserIdAndCreatorIdAndStatus(String userId, String creatorId, SubscriptionStatus status);
+
 }
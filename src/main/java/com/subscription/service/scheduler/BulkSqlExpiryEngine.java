@@ -0,0 +1,141 @@
+package com.subscription.service.scheduler;
+
+import com.subscription.service.event.SubscriptionChange;
+import com.subscription.service.event.SubscriptionChangeType;
+import com.subscription.service.event.SubscriptionChangedEvent;
+import com.subscription.service.tx.RetryingTransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Set-based expiry engine: the whole nightly run is two {@code UPDATE}
+ * statements and one {@code COUNT}, executed in a single transaction.
+ * <p>
+ * Auto-renewing rows are rolled forward with {@code UPDATE ... FROM plan}
+ * using {@code plan.duration_in_days}; the remaining due rows are expired.
+ * Both statements return the rows they touched, which are published as one
+ * {@link SubscriptionChangedEvent}. The number of round-trips
+ * is constant regardless of how many subscriptions are due, at the cost of
+ * holding row locks on all due rows until the run commits. A run that
+ * conflicts with a concurrent cancel is retried as a whole by
+ * {@link RetryingTransactionTemplate}.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "subscription.scheduler.mode", havingValue = "bulk-sql")
+public class BulkSqlExpiryEngine implements ExpiryEngine {
+
+    // The CTE captures the pre-update dates so the RETURNING clause can report them
+    private static final String RENEW_SQL = """
+            WITH due AS (
+                SELECT id, start_date, end_date, active
+                FROM subscription
+                WHERE status = 'ACTIVE'
+                  AND end_date < ?
+                  AND auto_renewal = true
+                FOR UPDATE
+            )
+            UPDATE subscription s
+            SET start_date = CAST(? AS date),
+                end_date = CAST(? AS date) + p.duration_in_days,
+                updated_at = now()
+            FROM due, plan p
+            WHERE s.id = due.id
+              AND p.id = s.plan_id
+              AND p.duration_in_days IS NOT NULL
+            RETURNING s.id, s.user_id, p.id AS plan_id, p.creator_id, p.price,
+                      due.start_date AS previous_start_date, due.end_date AS previous_end_date,
+                      due.active AS previously_active, s.start_date, s.end_date, true AS active
+            """;
+
+    private static final String EXPIRE_SQL = """
+            UPDATE subscription s
+            SET status = 'EXPIRED', active = false, updated_at = now()
+            WHERE s.status = 'ACTIVE'
+              AND s.end_date < ?
+              AND s.auto_renewal IS NOT TRUE
+            RETURNING s.id, s.user_id, s.plan_id,
+                      (SELECT p.creator_id FROM plan p WHERE p.id = s.plan_id) AS creator_id,
+                      (SELECT p.price FROM plan p WHERE p.id = s.plan_id) AS price,
+                      s.start_date AS previous_start_date, s.end_date AS previous_end_date,
+                      true AS previously_active, s.start_date, s.end_date, false AS active
+            """;
+
+    private static final String COUNT_REMAINING_SQL =
+            "SELECT COUNT(*) FROM subscription WHERE status = 'ACTIVE' AND end_date < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RetryingTransactionTemplate transactions;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public BulkSqlExpiryEngine(JdbcTemplate jdbcTemplate, RetryingTransactionTemplate transactions,
+                               ApplicationEventPublisher eventPublisher) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactions = transactions;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public ExpiryRunReport run(LocalDate today) {
+        long started = System.currentTimeMillis();
+        ExpiryRunReport report = new ExpiryRunReport(today);
+        Date runDate = Date.valueOf(today);
+
+        // Counted after commit, so a retried run is reported once
+        RunCounts counts = transactions.execute(status -> {
+            List<SubscriptionChange> renewed = jdbcTemplate.query(RENEW_SQL,
+                    (rs, i) -> mapChange(rs, SubscriptionChangeType.RENEWED), runDate, runDate, runDate);
+            List<SubscriptionChange> expired = jdbcTemplate.query(EXPIRE_SQL,
+                    (rs, i) -> mapChange(rs, SubscriptionChangeType.EXPIRED), runDate);
+            Long remaining = jdbcTemplate.queryForObject(COUNT_REMAINING_SQL, Long.class, runDate);
+            long skipped = remaining != null ? remaining : 0L;
+
+            if (log.isDebugEnabled()) {
+                log.debug("Renewed {} and expired {} subscriptions", renewed.size(), expired.size());
+            }
+
+            List<SubscriptionChange> changes = new ArrayList<>(renewed);
+            changes.addAll(expired);
+            if (!changes.isEmpty()) {
+                eventPublisher.publishEvent(SubscriptionChangedEvent.of(changes));
+            }
+            return new RunCounts(Math.toIntExact(renewed.size() + expired.size() + skipped),
+                    renewed.size(), expired.size());
+        });
+        report.addChunk(counts.read(), counts.renewed(), counts.expired());
+
+        report.finish(System.currentTimeMillis() - started);
+        return report;
+    }
+
+    private record RunCounts(int read, int renewed, int expired) {
+    }
+
+    private static SubscriptionChange mapChange(ResultSet rs, SubscriptionChangeType type) throws SQLException {
+        return SubscriptionChange.builder()
+                .subscriptionId(rs.getLong("id"))
+                .type(type)
+                .userId(rs.getString("user_id"))
+                .planId(rs.getObject("plan_id", Long.class))
+                .creatorId(rs.getString("creator_id"))
+                .price(rs.getObject("price", Double.class))
+                .previousStartDate(rs.getObject("previous_start_date", LocalDate.class))
+                .previousEndDate(rs.getObject("previous_end_date", LocalDate.class))
+                .previouslyActive(rs.getBoolean("previously_active"))
+                .startDate(rs.getObject("start_date", LocalDate.class))
+                .endDate(rs.getObject("end_date", LocalDate.class))
+                .active(rs.getBoolean("active"))
+                .build();
+    }
+}
@@ -0,0 +1,240 @@
+package com.subscription.service.scheduler;
+
+import com.subscription.service.event.SubscriptionChange;
+import com.subscription.service.event.SubscriptionChangeType;
+import com.subscription.service.event.SubscriptionChangedEvent;
+import com.subscription.service.tx.RetryingTransactionTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Nightly expiry engine that walks due subscriptions in bounded chunks.
+ * <p>
+ * Only {@code ACTIVE} rows with {@code end_date < today} are selected, using a
+ * keyset cursor on {@code (end_date, id)} so every chunk is served by the
+ * {@code (status, end_date, id)} index instead of a table scan. Each chunk is
+ * locked, renewed/expired with two JDBC batch updates and committed in its own
+ * transaction, so heap usage and lock duration are bounded by the chunk size
+ * rather than by the size of the subscription table. One
+ * {@link SubscriptionChangedEvent} is published per chunk for the rows that
+ * were actually updated. A chunk that conflicts with a concurrent cancel is
+ * retried by {@link RetryingTransactionTemplate}; its counters are only
+ * added to the report once it commits.
+ * </p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "subscription.scheduler.mode", havingValue = "chunked", matchIfMissing = true)
+public class ChunkedExpiryEngine implements ExpiryEngine {
+
+    static final String SELECT_FIRST_CHUNK = """
+            SELECT s.id, s.user_id, s.start_date, s.end_date, s.active, s.auto_renewal,
+                   p.id AS plan_id, p.creator_id, p.price, p.duration_in_days
+            FROM subscription s
+            LEFT JOIN plan p ON p.id = s.plan_id
+            WHERE s.status = 'ACTIVE'
+              AND s.end_date < ?
+            ORDER BY s.end_date, s.id
+            LIMIT ?
+            FOR UPDATE OF s
+            """;
+
+    static final String SELECT_NEXT_CHUNK = """
+            SELECT s.id, s.user_id, s.start_date, s.end_date, s.active, s.auto_renewal,
+                   p.id AS plan_id, p.creator_id, p.price, p.duration_in_days
+            FROM subscription s
+            LEFT JOIN plan p ON p.id = s.plan_id
+            WHERE s.status = 'ACTIVE'
+              AND s.end_date < ?
+              AND (s.end_date, s.id) > (?, ?)
+            ORDER BY s.end_date, s.id
+            LIMIT ?
+            FOR UPDATE OF s
+            """;
+
+    private static final String RENEW_SQL =
+            "UPDATE subscription SET start_date = ?, end_date = ?, updated_at = now() WHERE id = ? AND status = 'ACTIVE'";
+
+    private static final String EXPIRE_SQL =
+            "UPDATE subscription SET status = 'EXPIRED', active = false, updated_at = now() WHERE id = ? AND status = 'ACTIVE'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RetryingTransactionTemplate transactions;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public ChunkedExpiryEngine(JdbcTemplate jdbcTemplate,
+                               RetryingTransactionTemplate transactions,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${subscription.scheduler.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactions = transactions;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Renews or expires every subscription that ended before {@code today}.
+     *
+     * @param today the run date; rows with {@code end_date < today} are due
+     * @return counters for the run
+     */
+    @Override
+    public ExpiryRunReport run(LocalDate today) {
+        long started = System.currentTimeMillis();
+        ExpiryRunReport report = new ExpiryRunReport(today);
+
+        DueRow cursor = null;
+        while (true) {
+            DueRow last = cursor;
+            ChunkResult result = transactions.execute(status -> processChunk(today, last));
+            if (result == null) {
+                break;
+            }
+            report.addChunk(result.read(), result.renewed(), result.expired());
+            if (result.last() == null) {
+                break;
+            }
+            cursor = result.last();
+        }
+
+        report.finish(System.currentTimeMillis() - started);
+        return report;
+    }
+
+    /**
+     * Processes one chunk, or returns {@code null} when no due rows remain
+     * after the cursor.
+     */
+    private ChunkResult processChunk(LocalDate today, DueRow cursor) {
+        List<DueRow> chunk = cursor == null
+                ? jdbcTemplate.query(SELECT_FIRST_CHUNK, (rs, i) -> mapRow(rs), Date.valueOf(today), chunkSize)
+                : jdbcTemplate.query(SELECT_NEXT_CHUNK, (rs, i) -> mapRow(rs),
+                        Date.valueOf(today), Date.valueOf(cursor.endDate()), cursor.id(), chunkSize);
+
+        if (chunk.isEmpty()) {
+            return null;
+        }
+
+        List<DueRow> toRenew = new ArrayList<>();
+        List<DueRow> toExpire = new ArrayList<>();
+        for (DueRow row : chunk) {
+            switch (decide(row)) {
+                case RENEW -> toRenew.add(row);
+                case EXPIRE -> toExpire.add(row);
+                case SKIP -> log.warn("Skipping renewal of subscription {}: plan has no duration", row.id());
+            }
+        }
+
+        List<SubscriptionChange> changes = new ArrayList<>();
+        if (!toRenew.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(RENEW_SQL, toRenew.stream()
+                    .map(row -> new Object[]{
+                            Date.valueOf(today), Date.valueOf(today.plusDays(row.durationInDays())), row.id()})
+                    .toList());
+            for (int i = 0; i < counts.length; i++) {
+                if (updated(counts[i])) {
+                    changes.add(toChange(toRenew.get(i), SubscriptionChangeType.RENEWED,
+                            today, today.plusDays(toRenew.get(i).durationInDays()), true));
+                }
+            }
+        }
+        int renewed = changes.size();
+        if (!toExpire.isEmpty()) {
+            int[] counts = jdbcTemplate.batchUpdate(EXPIRE_SQL, toExpire.stream()
+                    .map(row -> new Object[]{row.id()})
+                    .toList());
+            for (int i = 0; i < counts.length; i++) {
+                if (updated(counts[i])) {
+                    DueRow row = toExpire.get(i);
+                    changes.add(toChange(row, SubscriptionChangeType.EXPIRED, row.startDate(), row.endDate(), false));
+                }
+            }
+        }
+        int expired = changes.size() - renewed;
+
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(SubscriptionChangedEvent.of(changes));
+        }
+
+        return new ChunkResult(chunk.size() < chunkSize ? null : chunk.get(chunk.size() - 1),
+                chunk.size(), renewed, expired);
+    }
+
+    /**
+     * Per-row renewal decision for a due subscription. Pure, so it can be
+     * benchmarked without a database.
+     */
+    static Action decide(DueRow row) {
+        if (!row.autoRenewal()) {
+            return Action.EXPIRE;
+        }
+        return row.durationInDays() != null ? Action.RENEW : Action.SKIP;
+    }
+
+    private static SubscriptionChange toChange(DueRow row, SubscriptionChangeType type,
+                                               LocalDate startDate, LocalDate endDate, boolean active) {
+        return SubscriptionChange.builder()
+                .subscriptionId(row.id())
+                .type(type)
+                .userId(row.userId())
+                .planId(row.planId())
+                .creatorId(row.creatorId())
+                .price(row.price())
+                .previousStartDate(row.startDate())
+                .previousEndDate(row.endDate())
+                .previouslyActive(row.active())
+                .startDate(startDate)
+                .endDate(endDate)
+                .active(active)
+                .build();
+    }
+
+    private static DueRow mapRow(ResultSet rs) throws SQLException {
+        Date startDate = rs.getDate("start_date");
+        return new DueRow(
+                rs.getLong("id"),
+                rs.getString("user_id"),
+                startDate != null ? startDate.toLocalDate() : null,
+                rs.getDate("end_date").toLocalDate(),
+                rs.getBoolean("active"),
+                rs.getBoolean("auto_renewal"),
+                rs.getObject("plan_id", Long.class),
+                rs.getString("creator_id"),
+                rs.getObject("price", Double.class),
+                rs.getObject("duration_in_days", Integer.class));
+    }
+
+    // Drivers may report SUCCESS_NO_INFO (-2) for batched statements
+    private static boolean updated(int count) {
+        return count > 0 || count == Statement.SUCCESS_NO_INFO;
+    }
+
+    enum Action {
+        RENEW,
+        EXPIRE,
+        // Auto-renewing, but the plan has no duration to renew for
+        SKIP
+    }
+
+    // last is null when this was the final chunk
+    private record ChunkResult(DueRow last, int read, int renewed, int expired) {
+    }
+
+    record DueRow(long id, String userId, LocalDate startDate, LocalDate endDate, boolean active,
+                  boolean autoRenewal, Long planId, String creatorId, Double price,
+                  Integer durationInDays) {
+    }
+}
@@ -0,0 +1,118 @@
+package com.subscription.service.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Builds {@code daily_rollup} rows from the {@code subscription_activity} journal.
+ * <p>
+ * Each run resumes after the day recorded in {@code rollup_checkpoint} and
+ * processes every finished day up to yesterday, one transaction per day: the
+ * day's journal rows are aggregated per plan and creator with a single
+ * {@code INSERT ... SELECT ... ON CONFLICT DO UPDATE} and the checkpoint is
+ * advanced in the same transaction. Normally that is exactly one day; after
+ * downtime the job catches up. Re-running a day overwrites its rows, so a
+ * failed run can simply be retried.
+ * </p>
+ */
+@Slf4j
+@Component
+public class DailyRollupJob {
+
+    private static final String CHECKPOINT = "daily_rollup";
+
+    private static final String SELECT_CHECKPOINT =
+            "SELECT last_day FROM rollup_checkpoint WHERE name = ?";
+
+    private static final String SELECT_FIRST_ACTIVITY_DAY =
+            "SELECT MIN(activity_date) FROM subscription_activity";
+
+    private static final String ROLLUP_DAY_SQL = """
+            INSERT INTO daily_rollup
+                (day, plan_id, creator_id, new_count, renewed_count, cancelled_count, expired_count, revenue)
+            SELECT a.activity_date,
+                   COALESCE(a.plan_id, 0),
+                   COALESCE(a.creator_id, ''),
+                   COUNT(*) FILTER (WHERE a.type = 'CREATED'),
+                   COUNT(*) FILTER (WHERE a.type = 'RENEWED'),
+                   COUNT(*) FILTER (WHERE a.type = 'CANCELLED'),
+                   COUNT(*) FILTER (WHERE a.type = 'EXPIRED'),
+                   COALESCE(SUM(a.price) FILTER (WHERE a.type IN ('CREATED', 'RENEWED')), 0)
+            FROM subscription_activity a
+            WHERE a.activity_date = ?
+            GROUP BY a.activity_date, COALESCE(a.plan_id, 0), COALESCE(a.creator_id, '')
+            ON CONFLICT (day, plan_id, creator_id) DO UPDATE
+            SET new_count = EXCLUDED.new_count,
+                renewed_count = EXCLUDED.renewed_count,
+                cancelled_count = EXCLUDED.cancelled_count,
+                expired_count = EXCLUDED.expired_count,
+                revenue = EXCLUDED.revenue
+            """;
+
+    private static final String UPSERT_CHECKPOINT = """
+            INSERT INTO rollup_checkpoint (name, last_day, updated_at)
+            VALUES (?, ?, now())
+            ON CONFLICT (name) DO UPDATE
+            SET last_day = EXCLUDED.last_day,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public DailyRollupJob(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${subscription.rollup.cron:0 15 0 * * ?}")
+    public void rollUp() {
+        int days = rollUpThrough(LocalDate.now().minusDays(1));
+        if (days > 0) {
+            log.info("Daily rollup processed {} day(s)", days);
+        }
+    }
+
+    /**
+     * Processes every unprocessed day up to and including {@code lastDay}.
+     *
+     * @return the number of days processed
+     */
+    public int rollUpThrough(LocalDate lastDay) {
+        LocalDate day = firstUnprocessedDay();
+        if (day == null) {
+            return 0;
+        }
+
+        int processed = 0;
+        for (; !day.isAfter(lastDay); day = day.plusDays(1)) {
+            Date sqlDay = Date.valueOf(day);
+            int rows = transactionTemplate.execute(status -> {
+                int inserted = jdbcTemplate.update(ROLLUP_DAY_SQL, sqlDay);
+                jdbcTemplate.update(UPSERT_CHECKPOINT, CHECKPOINT, sqlDay);
+                return inserted;
+            });
+            log.debug("Rolled up {}: {} plan/creator rows", day, rows);
+            processed++;
+        }
+        return processed;
+    }
+
+    private LocalDate firstUnprocessedDay() {
+        List<LocalDate> checkpoint = jdbcTemplate.query(SELECT_CHECKPOINT,
+                (rs, i) -> rs.getDate("last_day").toLocalDate(), CHECKPOINT);
+        if (!checkpoint.isEmpty()) {
+            return checkpoint.get(0).plusDays(1);
+        }
+        Date first = jdbcTemplate.queryForObject(SELECT_FIRST_ACTIVITY_DAY, Date.class);
+        return first != null ? first.toLocalDate() : null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.subscription.service.scheduler;
+
+import java.time.LocalDate;
+
+/**
+ * Strategy used by {@link SubscriptionScheduler} to renew or expire subscriptions
+ * whose end date has passed.
+ * <p>
+ * The implementation is selected with {@code subscription.scheduler.mode}:
+ * {@code chunked} (default) or {@code bulk-sql}.
+ * </p>
+ */
+public interface ExpiryEngine {
+
+    /**
+     * Renews auto-renewing subscriptions and expires the rest of the
+     * {@code ACTIVE} subscriptions with {@code end_date < today}.
+     *
+     * @param today the run date
+     * @return counters for the run
+     */
+    ExpiryRunReport run(LocalDate today);
+}
@@ -0,0 +1,45 @@
+package com.subscription.service.scheduler;
+
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+
+/**
+ * Summary of a single nightly expiry run.
+ * <p>
+ * {@code scanned} counts the due rows read by the engine; {@code renewed} and
+ * {@code expired} count the rows actually updated. Rows that were scanned but
+ * neither renewed nor expired are reported as {@code skipped}.
+ * </p>
+ */
+@Getter
+@ToString
+public class ExpiryRunReport {
+
+    private final LocalDate runDate;
+    private long scanned;
+    private long renewed;
+    private long expired;
+    private int chunks;
+    private long elapsedMillis;
+
+    public ExpiryRunReport(LocalDate runDate) {
+        this.runDate = runDate;
+    }
+
+    public long getSkipped() {
+        return scanned - renewed - expired;
+    }
+
+    void addChunk(int scannedRows, int renewedRows, int expiredRows) {
+        this.chunks++;
+        this.scanned += scannedRows;
+        this.renewed += renewedRows;
+        this.expired += expiredRows;
+    }
+
+    void finish(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+}
@@ -0,0 +1,154 @@
+package com.subscription.service.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+
+/**
+ * Moves ended subscriptions into {@code subscription_archive}.
+ * <p>
+ * Cancelled and expired rows whose {@code end_date} is older than
+ * {@code subscription.archive.horizon} are deleted from {@code subscription}
+ * in chunks. Each chunk is one statement: the deleted rows are inserted into
+ * the archive and added to {@code subscription_archive_summary}, so the three
+ * tables never disagree. Afterwards, every partition detached by
+ * {@link SubscriptionPartitionMaintenanceJob} is archived the same way and
+ * dropped.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SubscriptionArchiveJob {
+
+    // %s is a DELETE ... RETURNING * over subscription or a detached partition
+    private static final String ARCHIVE_SQL_TEMPLATE = """
+            WITH moved AS (
+                %s
+            ),
+            priced AS (
+                SELECT m.id, m.user_id, m.plan_id, COALESCE(m.creator_id, p.creator_id) AS creator_id,
+                       m.start_date, m.end_date, m.first_name, m.last_name, m.status, m.auto_renewal, p.price
+                FROM moved m
+                LEFT JOIN plan p ON p.id = m.plan_id
+            ),
+            archived AS (
+                INSERT INTO subscription_archive
+                    (id, user_id, plan_id, creator_id, start_date, end_date, first_name, last_name,
+                     status, auto_renewal, price, archived_at)
+                SELECT id, user_id, plan_id, creator_id, start_date, end_date, first_name, last_name,
+                       status, auto_renewal, price, now()
+                FROM priced
+                RETURNING id
+            ),
+            summarized AS (
+                INSERT INTO subscription_archive_summary
+                    (month, plan_id, creator_id, status, subscription_count, revenue)
+                SELECT date_trunc('month', end_date)::date, COALESCE(plan_id, 0), COALESCE(creator_id, ''),
+                       status, COUNT(*), COALESCE(SUM(price), 0)
+                FROM priced
+                GROUP BY 1, 2, 3, 4
+                ON CONFLICT (month, plan_id, creator_id, status) DO UPDATE
+                SET subscription_count = subscription_archive_summary.subscription_count
+                                         + EXCLUDED.subscription_count,
+                    revenue = subscription_archive_summary.revenue + EXCLUDED.revenue
+            )
+            SELECT COUNT(*) FROM archived
+            """;
+
+    // Only history partitions are touched; the id list keeps each chunk's locks bounded
+    private static final String ARCHIVE_LIVE_CHUNK_SQL = ARCHIVE_SQL_TEMPLATE.formatted("""
+            DELETE FROM subscription s
+                WHERE s.status IN ('CANCELLED', 'EXPIRED')
+                  AND s.end_date < ?
+                  AND s.id IN (SELECT id FROM subscription
+                               WHERE status IN ('CANCELLED', 'EXPIRED')
+                                 AND end_date < ?
+                               ORDER BY end_date
+                               LIMIT ?)
+                RETURNING s.*""");
+
+    private static final String SELECT_DETACHED = """
+            SELECT tablename
+            FROM pg_tables
+            WHERE schemaname = current_schema()
+              AND tablename LIKE ?
+            ORDER BY tablename
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Period horizon;
+    private final int chunkSize;
+
+    public SubscriptionArchiveJob(JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${subscription.archive.horizon:P12M}") Period horizon,
+                                  @Value("${subscription.archive.chunk-size:5000}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.horizon = horizon;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${subscription.archive.cron:0 0 2 * * ?}")
+    public void archive() {
+        long rows = archiveEndedBefore(LocalDate.now().minus(horizon));
+        long partitionRows = archiveDetachedPartitions();
+        if (rows > 0 || partitionRows > 0) {
+            log.info("Archived {} subscriptions from the live table and {} from detached partitions",
+                    rows, partitionRows);
+        }
+    }
+
+    /**
+     * Archives every cancelled or expired subscription with {@code end_date < cutoff}.
+     *
+     * @return the number of subscriptions archived
+     */
+    public long archiveEndedBefore(LocalDate cutoff) {
+        Date sqlCutoff = Date.valueOf(cutoff);
+        long total = 0;
+        while (true) {
+            Long moved = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                    ARCHIVE_LIVE_CHUNK_SQL, Long.class, sqlCutoff, sqlCutoff, chunkSize));
+            long count = moved != null ? moved : 0L;
+            total += count;
+            if (count < chunkSize) {
+                return total;
+            }
+        }
+    }
+
+    /**
+     * Archives and drops every {@code subscription_detached_*} table, one
+     * transaction per table.
+     *
+     * @return the number of subscriptions archived
+     */
+    public long archiveDetachedPartitions() {
+        List<String> tables = jdbcTemplate.queryForList(SELECT_DETACHED, String.class,
+                SubscriptionPartitionMaintenanceJob.DETACHED_PREFIX.replace("_", "\\_") + "%");
+        long total = 0;
+        for (String table : tables) {
+            // Table names come from the catalog and match the detached-partition prefix
+            Long moved = transactionTemplate.execute(status -> {
+                Long count = jdbcTemplate.queryForObject(
+                        ARCHIVE_SQL_TEMPLATE.formatted("DELETE FROM " + table + " RETURNING *"), Long.class);
+                jdbcTemplate.execute("DROP TABLE " + table);
+                return count;
+            });
+            log.debug("Archived detached partition {}: {} rows", table, moved);
+            total += moved != null ? moved : 0L;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,145 @@
+package com.subscription.service.scheduler;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps the monthly {@code end_date} partitions of {@code subscription_history}
+ * in step with the calendar.
+ * <p>
+ * Each run creates any missing partition from the current month up to
+ * {@code subscription.partition.months-ahead} months ahead, moving matching rows
+ * out of {@code subscription_history_default} first so the attach succeeds.
+ * Partitions whose month is older than {@code subscription.partition.retention-months}
+ * are detached and renamed to {@code subscription_detached_yYYYYmMM}; they keep
+ * their data and indexes but are no longer part of {@code subscription}, so
+ * dashboard reads stop seeing those rows. Every partition change runs in its own
+ * transaction.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SubscriptionPartitionMaintenanceJob {
+
+    static final String HISTORY_TABLE = "subscription_history";
+    static final String DEFAULT_PARTITION = "subscription_history_default";
+    static final String PARTITION_PREFIX = "subscription_history_";
+    static final String DETACHED_PREFIX = "subscription_detached_";
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("'y'yyyy'm'MM");
+
+    private static final String SELECT_PARTITIONS = """
+            SELECT c.relname
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relname = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+
+    public SubscriptionPartitionMaintenanceJob(JdbcTemplate jdbcTemplate,
+                                               PlatformTransactionManager transactionManager,
+                                               @Value("${subscription.partition.months-ahead:12}") int monthsAhead,
+                                               @Value("${subscription.partition.retention-months:24}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @Scheduled(cron = "${subscription.partition.cron:0 30 1 * * ?}")
+    public void maintainPartitions() {
+        maintain(YearMonth.now());
+    }
+
+    /**
+     * Creates the partitions due up to {@code current + months-ahead} and
+     * detaches those older than {@code current - retention-months}.
+     */
+    public void maintain(YearMonth current) {
+        Set<YearMonth> existing = historyPartitions();
+
+        int created = 0;
+        for (YearMonth month = current; !month.isAfter(current.plusMonths(monthsAhead)); month = month.plusMonths(1)) {
+            if (!existing.contains(month)) {
+                createPartition(month);
+                created++;
+            }
+        }
+
+        YearMonth cutoff = current.minusMonths(retentionMonths);
+        int detached = 0;
+        for (YearMonth month : existing) {
+            if (month.isBefore(cutoff)) {
+                detachPartition(month);
+                detached++;
+            }
+        }
+
+        if (created > 0 || detached > 0) {
+            log.info("Subscription partition maintenance: created {}, detached {}", created, detached);
+        }
+    }
+
+    private Set<YearMonth> historyPartitions() {
+        List<String> names = jdbcTemplate.queryForList(SELECT_PARTITIONS, String.class, HISTORY_TABLE);
+        Set<YearMonth> months = new TreeSet<>();
+        for (String name : names) {
+            if (name.startsWith(PARTITION_PREFIX) && !name.equals(DEFAULT_PARTITION)) {
+                months.add(YearMonth.parse(name.substring(PARTITION_PREFIX.length()), SUFFIX));
+            }
+        }
+        return months;
+    }
+
+    // Identifiers and bounds are derived from YearMonth, never from input; DDL cannot take bind parameters
+    private void createPartition(YearMonth month) {
+        String table = PARTITION_PREFIX + month.format(SUFFIX);
+        LocalDate from = month.atDay(1);
+        LocalDate to = month.plusMonths(1).atDay(1);
+        String range = "end_date >= DATE '" + from + "' AND end_date < DATE '" + to + "'";
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("CREATE TABLE " + table
+                    + " (LIKE " + HISTORY_TABLE + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS)");
+            // Parent indexes are attached automatically; id uniqueness is per partition (V8)
+            jdbcTemplate.execute("CREATE UNIQUE INDEX " + table + "_id_key ON " + table + " (id)");
+            // Attaching fails while the default partition still holds rows for the new range. The lock keeps
+            // writers out until ATTACH (which needs it anyway), so no row can land in the default partition
+            // after the move; it is usually near-empty, so it is held briefly.
+            jdbcTemplate.execute("LOCK TABLE " + DEFAULT_PARTITION + " IN ACCESS EXCLUSIVE MODE");
+            int moved = jdbcTemplate.update("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                    + " WHERE " + range + " RETURNING *) INSERT INTO " + table + " SELECT * FROM moved");
+            jdbcTemplate.execute("ALTER TABLE " + HISTORY_TABLE + " ATTACH PARTITION " + table
+                    + " FOR VALUES FROM ('" + from + "') TO ('" + to + "')");
+            log.debug("Created partition {} ({} rows moved from default)", table, moved);
+        });
+    }
+
+    private void detachPartition(YearMonth month) {
+        String table = PARTITION_PREFIX + month.format(SUFFIX);
+        String detached = DETACHED_PREFIX + month.format(SUFFIX);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.execute("ALTER TABLE " + HISTORY_TABLE + " DETACH PARTITION " + table);
+            jdbcTemplate.execute("ALTER TABLE " + table + " RENAME TO " + detached);
+            log.debug("Detached partition {} as {}", table, detached);
+        });
+    }
+}
@@ -1,36 +1,24 @@
-package com.subscription.service.scheduler;import com.subscription.service.entity.Subscription;
-import com.subscription.service.entity.SubscriptionStatus;
-import com.subscription.service.repository.SubscriptionRepository;
+package com.subscription.service.scheduler;
+
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.List;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class SubscriptionScheduler {
 
-    private final SubscriptionRepository subscriptionRepository;
+    private final ExpiryEngine expiryEngine;
+
     @Scheduled(cron = "0 0 0 * * ?")
     public void checkSubscriptions() {
-
-        List<Subscription> subscriptions = subscriptionRepository.findAll();
-
-        for (Subscription s : subscriptions) {
-            if (s.getStatus() == SubscriptionStatus.ACTIVE && s.getEndDate().isBefore(LocalDate.now())) {
-
-                if (Boolean.TRUE.equals(s.getAutoRenewal())) {
-                    s.setStartDate(LocalDate.now());
-                    s.setEndDate(LocalDate.now().plusDays(s.getPlan().getDurationInDays()));
-                } else {
-                    s.setStatus(SubscriptionStatus.EXPIRED);
-                    s.setActive(false);
-                }
-
-                subscriptionRepository.save(s);
-            }
-        }
+        ExpiryRunReport report = expiryEngine.run(LocalDate.now());
+        log.info("Subscription expiry run for {}: scanned={}, renewed={}, expired={}, skipped={}, chunks={}, took={}ms",
+                report.getRunDate(), report.getScanned(), report.getRenewed(), report.getExpired(),
+                report.getSkipped(), report.getChunks(), report.getElapsedMillis());
     }
 }
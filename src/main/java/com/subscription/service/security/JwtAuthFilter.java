@@ -1,5 +1,6 @@
 package com.subscription.service.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,7 +18,7 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final JwtVerifier jwtVerifier;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -33,12 +34,12 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
-        String token = getTokenFromHeader(request);
+        JwtPrincipal principal = verify(getTokenFromHeader(request));
 
-        if (token != null && jwtUtil.isValid(token)) {
-            String username = jwtUtil.extractUsername(token);
+        if (principal != null) {
+            // The principal carries the parsed claims, so controllers never touch the token again
             UsernamePasswordAuthenticationToken auth = new UsernamePasswordAuthenticationToken(
-                    username, null, Collections.emptyList()
+                    principal, null, Collections.emptyList()
             );
             SecurityContextHolder.getContext().setAuthentication(auth);
         } else {
@@ -50,6 +51,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private JwtPrincipal verify(String token) {
+        if (token == null) {
+            return null;
+        }
+        try {
+            return jwtVerifier.verify(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     private String getTokenFromHeader(HttpServletRequest request) {
         String header = request.getHeader("Authorization");
         if (header != null && header.startsWith("Bearer ")) {
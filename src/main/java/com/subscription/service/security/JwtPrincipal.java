@@ -0,0 +1,29 @@
+package com.subscription.service.security;
+
+import lombok.Value;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Identity taken from a verified JWT and stored as the principal of the
+ * request's {@code Authentication}. Controllers receive it with
+ * {@code @AuthenticationPrincipal} instead of re-parsing the token.
+ */
+@Value
+public class JwtPrincipal implements Principal {
+    String userId;
+    String firstName;
+    String lastName;
+
+    // Set for partner integrations by a "partner": true claim; allows acting for other users in batch calls
+    boolean partner;
+
+    // Token expiry; null if the token carries no exp claim
+    Instant expiresAt;
+
+    @Override
+    public String getName() {
+        return userId;
+    }
+}
@@ -0,0 +1,87 @@
+package com.subscription.service.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Verifies bearer tokens, remembering recently verified ones.
+ * <p>
+ * A token's signature is checked once; afterwards it is served from a
+ * bounded cache until the earlier of its {@code exp} claim and
+ * {@code security.jwt.cache-max-ttl}. Entries never outlive the token, so a
+ * cached hit is exactly as valid as a fresh parse. Invalid tokens are not
+ * cached and are rejected on every request.
+ * </p>
+ */
+@Component
+public class JwtVerifier {
+
+    private final JwtUtil jwtUtil;
+    private final Clock clock = Clock.systemUTC();
+    private final Cache<String, JwtPrincipal> verified;
+
+    public JwtVerifier(JwtUtil jwtUtil,
+                       @Value("${security.jwt.cache-max-size:10000}") long maxSize,
+                       @Value("${security.jwt.cache-max-ttl:PT10M}") Duration maxTtl) {
+        this.jwtUtil = jwtUtil;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry(maxTtl, clock))
+                .build();
+    }
+
+    /**
+     * Returns the principal of a valid token.
+     *
+     * @throws JwtException             if the token is malformed, expired or has a bad signature
+     * @throws IllegalArgumentException if the token is null or blank
+     */
+    public JwtPrincipal verify(String token) {
+        JwtPrincipal principal = verified.getIfPresent(token);
+        // Re-check exp on hits so expiry-timer granularity can never extend a token's life
+        if (principal != null && (principal.getExpiresAt() == null
+                || principal.getExpiresAt().isAfter(clock.instant()))) {
+            return principal;
+        }
+        verified.invalidate(token);
+        principal = jwtUtil.parse(token);
+        verified.put(token, principal);
+        return principal;
+    }
+
+    private record TokenExpiry(Duration maxTtl, Clock clock) implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String token, JwtPrincipal principal, long currentTime) {
+            Duration ttl = maxTtl;
+            Instant expiresAt = principal.getExpiresAt();
+            if (expiresAt != null) {
+                Duration remaining = Duration.between(clock.instant(), expiresAt);
+                if (remaining.compareTo(ttl) < 0) {
+                    ttl = remaining.isNegative() ? Duration.ZERO : remaining;
+                }
+            }
+            return ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, JwtPrincipal principal, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(token, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, JwtPrincipal principal, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.subscription.service.service;
+
+import com.subscription.service.dto.ArchiveSummaryDTO;
+import com.subscription.service.dto.SubscriptionFilter;
+import com.subscription.service.dto.SubscriptionListItemDTO;
+import com.subscription.service.dto.SubscriptionPageDTO;
+
+import java.time.YearMonth;
+import java.util.List;
+
+public interface ArchiveService {
+
+    SubscriptionPageDTO getArchivedPage(SubscriptionFilter filter, int page, int size, boolean includeTotal);
+
+    SubscriptionListItemDTO getArchivedById(Long id);
+
+    List<ArchiveSummaryDTO> getSummary(YearMonth from, YearMonth to);
+}
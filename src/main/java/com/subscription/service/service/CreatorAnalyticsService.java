@@ -0,0 +1,10 @@
+package com.subscription.service.service;
+
+import com.subscription.service.dto.CreatorAnalyticsDTO;
+
+import java.time.LocalDate;
+
+public interface CreatorAnalyticsService {
+
+    CreatorAnalyticsDTO getAnalytics(String creatorId, LocalDate from, LocalDate to);
+}
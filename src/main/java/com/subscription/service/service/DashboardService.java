@@ -1,6 +1,8 @@
 package com.subscription.service.service;
 
 import com.subscription.service.dto.SubscriptionListItemDTO;
+import com.subscription.service.dto.SubscriptionPageDTO;
+import com.subscription.service.dto.SubscriptionPageRequest;
 import com.subscription.service.dto.UpdateSubscriptionRequest;
 
 import java.util.List;
@@ -15,6 +17,8 @@ public interface DashboardService {
     List<SubscriptionListItemDTO> getExpiredSubscriptions();
     List<SubscriptionListItemDTO> getSoonExpiredSubscriptions();
 
+    SubscriptionPageDTO getSubscriptionPage(SubscriptionPageRequest request); // Paged / cursor listing
+
     SubscriptionListItemDTO getById(Long id); // View
     SubscriptionListItemDTO update(Long id, UpdateSubscriptionRequest req); // Edit (autoRenewal)
     SubscriptionListItemDTO cancelSubscription(Long subscriptionId);
@@ -0,0 +1,33 @@
+package com.subscription.service.service;
+
+import com.subscription.service.dto.ExportJobDTO;
+
+import java.nio.file.Path;
+
+/**
+ * Runs subscription exports in the background and keeps the resulting
+ * gzip-compressed CSV files on local disk for download.
+ */
+public interface ExportJobService {
+
+    /**
+     * Queues an export for the given filter. If an export for the same filter
+     * and date is already queued or running, that job is returned instead.
+     *
+     * @param filter the filter to apply (e.g., "all", "active", "cancelled", "expired", "soon-expired")
+     * @return the queued (or already running) job
+     */
+    ExportJobDTO submit(String filter);
+
+    /**
+     * @param jobId the job ID returned by {@link #submit(String)}
+     * @return current job status
+     */
+    ExportJobDTO getJob(String jobId);
+
+    /**
+     * @param jobId the job ID of a completed job
+     * @return path of the {@code .csv.gz} file produced by the job
+     */
+    Path getArtifact(String jobId);
+}
@@ -1,18 +1,33 @@
 package com.subscription.service.service;
 
+import com.subscription.service.dto.ExportFormat;
+import com.subscription.service.dto.SubscriptionFilter;
 import jakarta.servlet.http.HttpServletResponse;
 
+import java.io.Writer;
+
 /**
  * Service for exporting subscription data into downloadable formats.
- * Currently supports CSV export.
+ * Supports CSV and Apache Arrow IPC stream export.
  */
 public interface ExportService {
 
     /**
-     * Exports subscription data as a CSV file based on the given filter.
+     * Exports subscription data in the given format based on the given filter.
      *
      * @param filter   the filter to apply (e.g., "all", "active", "cancelled", "expired", "soon-expired")
-     * @param response HTTP response to write the CSV content into
+     * @param format   the output format
+     * @param response HTTP response to write the content into
+     */
+    void exportSubscriptions(String filter, ExportFormat format, HttpServletResponse response);
+
+    /**
+     * Writes subscription data as CSV into the given writer, flushing it
+     * periodically. The writer is flushed but not closed.
+     *
+     * @param filter the filter to apply
+     * @param writer destination for the CSV content
+     * @return number of data rows written
      */
-    void exportSubscriptions(String filter, HttpServletResponse response);
+    long writeSubscriptions(SubscriptionFilter filter, Writer writer);
 }
@@ -2,14 +2,13 @@ package com.subscription.service.service;
 
 import com.subscription.service.dto.PlanRequest;
 import com.subscription.service.dto.PlanResponse;
-
-import java.util.List;
+import com.subscription.service.dto.VersionedPlanList;
 
 public interface PlanService {
 
     PlanResponse createPlan(PlanRequest request, String creatorId,String firstName,String lastName);
 
-    List<PlanResponse> getAllPlans();
+    VersionedPlanList getAllPlans();
 
-    List<PlanResponse> getPlansByCreator(String creatorId);
+    VersionedPlanList getPlansByCreator(String creatorId);
 }
@@ -0,0 +1,17 @@
+package com.subscription.service.service;
+
+/**
+ * Cheap version tags for read endpoints, used as HTTP ETags.
+ * <p>
+ * Each tag is derived from the row count, newest {@code updated_at} and
+ * highest ID of the rows a response would contain, so it changes whenever a
+ * row is added or modified. Tags come from an aggregate query over the index
+ * instead of loading rows. Plan list tags are not computed here: they are
+ * returned with the cached list itself by
+ * {@link com.subscription.service.service.PlanService}.
+ * </p>
+ */
+public interface ResourceVersionService {
+
+    String userSubscriptionsVersion(String userId);
+}
@@ -0,0 +1,16 @@
+package com.subscription.service.service;
+
+import com.subscription.service.dto.RollupPointDTO;
+import com.subscription.service.dto.RollupTotalDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface RollupService {
+
+    List<RollupPointDTO> getDailySeries(LocalDate from, LocalDate to, Long planId, String creatorId);
+
+    List<RollupTotalDTO> getPlanTotals(LocalDate from, LocalDate to);
+
+    List<RollupTotalDTO> getCreatorTotals(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,11 @@
+package com.subscription.service.service;
+
+import com.subscription.service.dto.PlanPageDTO;
+import com.subscription.service.dto.SubscriptionPageDTO;
+
+public interface SearchService {
+
+    SubscriptionPageDTO searchSubscriptions(String query, int page, int size); // By fan name
+
+    PlanPageDTO searchPlans(String query, int page, int size); // By plan name or creator name
+}
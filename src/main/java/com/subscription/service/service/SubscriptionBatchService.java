@@ -0,0 +1,32 @@
+package com.subscription.service.service;
+
+import com.subscription.service.dto.BatchResultDTO;
+import com.subscription.service.dto.BatchSubscribeItem;
+
+import java.util.List;
+
+/**
+ * Bulk subscribe and cancel operations for partner integrations.
+ * <p>
+ * Each call runs in one transaction. Invalid operations are rejected
+ * individually and reported in the result without failing the rest of the batch.
+ * </p>
+ */
+public interface SubscriptionBatchService {
+
+    /**
+     * Creates one subscription per item; {@code userId} and {@code planId} are required.
+     *
+     * @param items subscribe operations
+     * @return per-item results in request order
+     */
+    BatchResultDTO createSubscriptions(List<BatchSubscribeItem> items);
+
+    /**
+     * Cancels each listed subscription.
+     *
+     * @param subscriptionIds IDs of the subscriptions to cancel
+     * @return per-item results in request order
+     */
+    BatchResultDTO cancelSubscriptions(List<Long> subscriptionIds);
+}
@@ -1,4 +1,7 @@
 package com.subscription.service.service;
+
+import com.subscription.service.dto.SubscriptionStatsDTO;
+
 public interface SubscriptionStatsService {
     Integer getTotalActiveSubscriptions();
 
@@ -7,5 +10,10 @@ public interface SubscriptionStatsService {
     Integer getExpiringSoonCount();
 
     Integer getNewTodayCount();
+
+    /**
+     * All four dashboard figures, computed in one query and cached briefly.
+     */
+    SubscriptionStatsDTO getStats();
 }
 
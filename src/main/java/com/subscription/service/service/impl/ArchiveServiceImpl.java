@@ -0,0 +1,85 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.dto.ArchiveSummaryDTO;
+import com.subscription.service.dto.SubscriptionFilter;
+import com.subscription.service.dto.SubscriptionListItemDTO;
+import com.subscription.service.dto.SubscriptionListRow;
+import com.subscription.service.dto.SubscriptionPageDTO;
+import com.subscription.service.entity.SubscriptionStatus;
+import com.subscription.service.repository.ArchiveSummaryRepository;
+import com.subscription.service.repository.ArchivedSubscriptionRepository;
+import com.subscription.service.service.ArchiveService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads {@code subscription_archive} and {@code subscription_archive_summary}.
+ * Only reached when a dashboard request explicitly asks for archived data.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ArchiveServiceImpl implements ArchiveService {
+
+    private final ArchivedSubscriptionRepository archivedSubscriptionRepository;
+    private final ArchiveSummaryRepository archiveSummaryRepository;
+    private final SubscriptionListItemMapper mapper;
+
+    @Override
+    public SubscriptionPageDTO getArchivedPage(SubscriptionFilter filter, int page, int size, boolean includeTotal) {
+        Set<SubscriptionStatus> statuses = statusesFor(filter);
+        Slice<SubscriptionListRow> slice = archivedSubscriptionRepository.findRowsByStatusIn(statuses,
+                PageRequest.of(page, size, Sort.by("id")));
+
+        SubscriptionListItemMapper.Session session = mapper.newSession(LocalDate.now());
+        List<SubscriptionListItemDTO> items = new ArrayList<>(slice.getNumberOfElements());
+        for (SubscriptionListRow row : slice) {
+            items.add(session.toListItem(row));
+        }
+
+        return SubscriptionPageDTO.builder()
+                .items(items)
+                .page(page)
+                .size(size)
+                .hasNext(slice.hasNext())
+                .totalElements(includeTotal ? archivedSubscriptionRepository.countByStatusIn(statuses) : null)
+                .build();
+    }
+
+    @Override
+    public SubscriptionListItemDTO getArchivedById(Long id) {
+        SubscriptionListRow row = archivedSubscriptionRepository.findRowById(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND,
+                        "Archived subscription not found: " + id));
+        return mapper.toListItem(row);
+    }
+
+    @Override
+    public List<ArchiveSummaryDTO> getSummary(YearMonth from, YearMonth to) {
+        return archiveSummaryRepository.findMonthlyTotals(from.atDay(1), to.atDay(1));
+    }
+
+    // The archive only ever holds cancelled and expired subscriptions
+    private static Set<SubscriptionStatus> statusesFor(SubscriptionFilter filter) {
+        return switch (filter) {
+            case ALL -> EnumSet.of(SubscriptionStatus.CANCELLED, SubscriptionStatus.EXPIRED);
+            case CANCELLED -> EnumSet.of(SubscriptionStatus.CANCELLED);
+            case EXPIRED -> EnumSet.of(SubscriptionStatus.EXPIRED);
+            case ACTIVE, SOON_EXPIRED -> throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "Archived subscriptions are never " + filter.getParam());
+        };
+    }
+}
@@ -0,0 +1,146 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.dto.SubscriptionListRow;
+import lombok.RequiredArgsConstructor;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.*;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Writes subscription rows as an Apache Arrow IPC stream.
+ * <p>
+ * Rows are buffered into column vectors and emitted as one record batch every
+ * {@code subscription.export.arrow-batch-rows} rows, so memory is bounded by
+ * the batch size and the client receives data while the query is still running.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ArrowExportWriter {
+
+    static final Schema SCHEMA = new Schema(List.of(
+            Field.nullable("id", new ArrowType.Int(64, true)),
+            Field.nullable("fan_name", ArrowType.Utf8.INSTANCE),
+            Field.nullable("creator_id", ArrowType.Utf8.INSTANCE),
+            Field.nullable("creator_name", ArrowType.Utf8.INSTANCE),
+            Field.nullable("plan_name", ArrowType.Utf8.INSTANCE),
+            Field.nullable("price", new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE)),
+            Field.nullable("duration_in_days", new ArrowType.Int(32, true)),
+            Field.nullable("start_date", new ArrowType.Date(DateUnit.DAY)),
+            Field.nullable("end_date", new ArrowType.Date(DateUnit.DAY)),
+            Field.nullable("status", ArrowType.Utf8.INSTANCE),
+            Field.nullable("auto_renewal", ArrowType.Bool.INSTANCE),
+            Field.nullable("remaining_days", new ArrowType.Int(64, true))
+    ));
+
+    private final SubscriptionListItemMapper mapper;
+
+    @Value("${subscription.export.arrow-batch-rows:8192}")
+    private int batchRows;
+
+    /**
+     * Writes all rows to {@code out} and ends the stream. {@code out} is flushed but not closed.
+     *
+     * @return number of rows written
+     */
+    public long write(Stream<SubscriptionListRow> rows, OutputStream out) throws IOException {
+        long written = 0;
+        try (BufferAllocator allocator = new RootAllocator();
+             VectorSchemaRoot root = VectorSchemaRoot.create(SCHEMA, allocator);
+             ArrowStreamWriter writer = new ArrowStreamWriter(root, null, nonClosing(out))) {
+
+            BigIntVector id = (BigIntVector) root.getVector("id");
+            VarCharVector fanName = (VarCharVector) root.getVector("fan_name");
+            VarCharVector creatorId = (VarCharVector) root.getVector("creator_id");
+            VarCharVector creatorName = (VarCharVector) root.getVector("creator_name");
+            VarCharVector planName = (VarCharVector) root.getVector("plan_name");
+            Float8Vector price = (Float8Vector) root.getVector("price");
+            IntVector durationInDays = (IntVector) root.getVector("duration_in_days");
+            DateDayVector startDate = (DateDayVector) root.getVector("start_date");
+            DateDayVector endDate = (DateDayVector) root.getVector("end_date");
+            VarCharVector status = (VarCharVector) root.getVector("status");
+            BitVector autoRenewal = (BitVector) root.getVector("auto_renewal");
+            BigIntVector remainingDays = (BigIntVector) root.getVector("remaining_days");
+
+            writer.start();
+            root.allocateNew();
+            int n = 0;
+            SubscriptionListItemMapper.Session session = mapper.newSession(LocalDate.now());
+            for (Iterator<SubscriptionListRow> it = rows.iterator(); it.hasNext(); ) {
+                SubscriptionListRow row = it.next();
+
+                setLong(id, n, row.getId());
+                setString(fanName, n, session.fanName(row));
+                setString(creatorId, n, row.getCreatorId());
+                setString(creatorName, n, session.creatorName(row));
+                setString(planName, n, row.getPlanName());
+                if (row.getPrice() != null) price.setSafe(n, row.getPrice()); else price.setNull(n);
+                if (row.getDurationInDays() != null) durationInDays.setSafe(n, row.getDurationInDays()); else durationInDays.setNull(n);
+                setDate(startDate, n, row.getStartDate());
+                setDate(endDate, n, row.getEndDate());
+                setString(status, n, session.statusLabel(row));
+                autoRenewal.setSafe(n, Boolean.TRUE.equals(row.getAutoRenewal()) ? 1 : 0);
+                if (row.getEndDate() != null) remainingDays.setSafe(n, session.remainingDays(row)); else remainingDays.setNull(n);
+
+                written++;
+                if (++n == batchRows) {
+                    root.setRowCount(n);
+                    writer.writeBatch();
+                    root.allocateNew();
+                    n = 0;
+                }
+            }
+            if (n > 0 || written == 0) {
+                root.setRowCount(n);
+                writer.writeBatch();
+            }
+            writer.end();
+        }
+        out.flush();
+        return written;
+    }
+
+    private static void setString(VarCharVector vector, int index, String value) {
+        if (value != null) vector.setSafe(index, value.getBytes(StandardCharsets.UTF_8)); else vector.setNull(index);
+    }
+
+    private static void setLong(BigIntVector vector, int index, Long value) {
+        if (value != null) vector.setSafe(index, value); else vector.setNull(index);
+    }
+
+    private static void setDate(DateDayVector vector, int index, LocalDate value) {
+        if (value != null) vector.setSafe(index, Math.toIntExact(value.toEpochDay())); else vector.setNull(index);
+    }
+
+    // ArrowStreamWriter closes its channel; the HTTP response stream belongs to the caller
+    private static OutputStream nonClosing(OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                out.write(b, off, len);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+}
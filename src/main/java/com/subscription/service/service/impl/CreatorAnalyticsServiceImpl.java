@@ -0,0 +1,217 @@
+package com.subscription.service.service.impl;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.subscription.service.cache.PlanCache;
+import com.subscription.service.dto.CreatorAnalyticsDTO;
+import com.subscription.service.dto.CreatorPlanAnalyticsDTO;
+import com.subscription.service.entity.Plan;
+import com.subscription.service.event.SubscriptionChange;
+import com.subscription.service.event.SubscriptionChangedEvent;
+import com.subscription.service.service.CreatorAnalyticsService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Per-creator analytics assembled from two small, separately cached aggregates.
+ * <p>
+ * Active subscribers per plan come from {@code subscription_active} through
+ * {@code idx_subscription_active_creator_plan} and are cached per creator
+ * until a committed {@link SubscriptionChangedEvent} touches one of the
+ * creator's plans. Range activity (new, renewed, cancelled, expired, revenue)
+ * comes from {@code daily_rollup} through {@code idx_daily_rollup_creator_day};
+ * rollups only change once a day, so those entries simply expire after
+ * {@code subscription.creator-analytics.cache-ttl}. Plan details are taken from
+ * {@link PlanCache} on every call, so a newly created plan shows up at once.
+ * </p>
+ * <p>
+ * Churn is measured against the subscribers active at the start of the range,
+ * derived from today's active count by undoing the rollup activity since
+ * {@code from}. Rollups stop at the last processed day, so changes made today
+ * can skew that base slightly.
+ * </p>
+ */
+@Service
+public class CreatorAnalyticsServiceImpl implements CreatorAnalyticsService {
+
+    static final String ACTIVE_BY_PLAN_SQL = """
+            SELECT plan_id, COUNT(*) AS active_subscribers
+            FROM subscription
+            WHERE status = 'ACTIVE'
+              AND creator_id = ?
+            GROUP BY plan_id
+            """;
+
+    // One index range scan from 'from' onwards serves both the requested range and the since-'from' totals
+    private static final String RANGE_TOTALS_SQL = """
+            SELECT
+                COALESCE(SUM(new_count) FILTER (WHERE day <= ?), 0) AS new_count,
+                COALESCE(SUM(renewed_count) FILTER (WHERE day <= ?), 0) AS renewed_count,
+                COALESCE(SUM(cancelled_count) FILTER (WHERE day <= ?), 0) AS cancelled_count,
+                COALESCE(SUM(expired_count) FILTER (WHERE day <= ?), 0) AS expired_count,
+                COALESCE(SUM(revenue) FILTER (WHERE day <= ?), 0) AS revenue,
+                COALESCE(SUM(new_count), 0) AS new_since,
+                COALESCE(SUM(cancelled_count + expired_count), 0) AS ended_since
+            FROM daily_rollup
+            WHERE creator_id = ?
+              AND day >= ?
+            """;
+
+    private static final double DAYS_PER_MONTH = 30.0;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlanCache planCache;
+
+    // Creator ID -> active subscribers per plan ID
+    private final AsyncLoadingCache<String, Map<Long, Long>> activeByCreator;
+    private final AsyncLoadingCache<CreatorRange, RangeTotals> rangeTotals;
+
+    public CreatorAnalyticsServiceImpl(JdbcTemplate jdbcTemplate,
+                                       PlanCache planCache,
+                                       MeterRegistry meterRegistry,
+                                       @Qualifier("cacheLoadExecutor") Executor loadExecutor,
+                                       @Value("${subscription.creator-analytics.cache-max-size:10000}") long maxSize,
+                                       @Value("${subscription.creator-analytics.cache-ttl:PT10M}") Duration ttl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.planCache = planCache;
+        this.activeByCreator = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .executor(loadExecutor)
+                .buildAsync(this::loadActiveByPlan);
+        this.rangeTotals = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .executor(loadExecutor)
+                .buildAsync(this::loadRangeTotals);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, activeByCreator.synchronous(), "creator-analytics.active");
+        CaffeineCacheMetrics.monitor(meterRegistry, rangeTotals.synchronous(), "creator-analytics.range");
+    }
+
+    @Override
+    public CreatorAnalyticsDTO getAnalytics(String creatorId, LocalDate from, LocalDate to) {
+        Map<Long, Long> activeByPlan = join(activeByCreator.get(creatorId));
+        RangeTotals totals = join(rangeTotals.get(new CreatorRange(creatorId, from, to)));
+
+        List<CreatorPlanAnalyticsDTO> plans = new ArrayList<>();
+        long active = 0;
+        double mrr = 0;
+        for (Plan plan : planCache.findByCreatorId(creatorId)) {
+            long planActive = activeByPlan.getOrDefault(plan.getId(), 0L);
+            double planMrr = planActive * monthlyPrice(plan);
+            plans.add(CreatorPlanAnalyticsDTO.builder()
+                    .planId(plan.getId())
+                    .name(plan.getName())
+                    .price(plan.getPrice())
+                    .durationInDays(plan.getDurationInDays())
+                    .activeSubscribers(planActive)
+                    .monthlyRecurringRevenue(planMrr)
+                    .build());
+            active += planActive;
+            mrr += planMrr;
+        }
+
+        long activeAtStart = Math.max(0, active - totals.newSince() + totals.endedSince());
+        long ended = totals.cancelledCount() + totals.expiredCount();
+        long dueForRenewal = totals.renewedCount() + totals.expiredCount();
+
+        return CreatorAnalyticsDTO.builder()
+                .creatorId(creatorId)
+                .from(from)
+                .to(to)
+                .activeSubscribers(active)
+                .monthlyRecurringRevenue(mrr)
+                .plans(plans)
+                .newCount(totals.newCount())
+                .renewedCount(totals.renewedCount())
+                .cancelledCount(totals.cancelledCount())
+                .expiredCount(totals.expiredCount())
+                .revenue(totals.revenue())
+                .churnRate(activeAtStart > 0 ? (double) ended / activeAtStart : null)
+                .renewalRate(dueForRenewal > 0 ? (double) totals.renewedCount() / dueForRenewal : null)
+                .build();
+    }
+
+    /**
+     * Drops the cached active counts of every creator touched by a committed change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        Set<String> creatorIds = new HashSet<>();
+        for (SubscriptionChange change : event.getChanges()) {
+            if (change.getCreatorId() != null) {
+                creatorIds.add(change.getCreatorId());
+            }
+        }
+        activeByCreator.synchronous().invalidateAll(creatorIds);
+    }
+
+    private Map<Long, Long> loadActiveByPlan(String creatorId) {
+        Map<Long, Long> activeByPlan = new HashMap<>();
+        jdbcTemplate.query(ACTIVE_BY_PLAN_SQL, (RowCallbackHandler) rs ->
+                activeByPlan.put(rs.getLong("plan_id"), rs.getLong("active_subscribers")), creatorId);
+        return Map.copyOf(activeByPlan);
+    }
+
+    private RangeTotals loadRangeTotals(CreatorRange key) {
+        Date to = Date.valueOf(key.to());
+        return jdbcTemplate.queryForObject(RANGE_TOTALS_SQL, (rs, rowNum) -> new RangeTotals(
+                        rs.getLong("new_count"),
+                        rs.getLong("renewed_count"),
+                        rs.getLong("cancelled_count"),
+                        rs.getLong("expired_count"),
+                        rs.getDouble("revenue"),
+                        rs.getLong("new_since"),
+                        rs.getLong("ended_since")),
+                to, to, to, to, to, key.creatorId(), Date.valueOf(key.from()));
+    }
+
+    private static double monthlyPrice(Plan plan) {
+        if (plan.getPrice() == null || plan.getDurationInDays() == null || plan.getDurationInDays() <= 0) {
+            return 0;
+        }
+        return plan.getPrice() * DAYS_PER_MONTH / plan.getDurationInDays();
+    }
+
+    // Rethrows the loader's own exception rather than the CompletionException wrapping it
+    private static <V> V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private record CreatorRange(String creatorId, LocalDate from, LocalDate to) {
+    }
+
+    // Activity within the range, plus new and ended subscriptions from 'from' to the last rolled-up day
+    private record RangeTotals(long newCount, long renewedCount, long cancelledCount, long expiredCount,
+                               double revenue, long newSince, long endedSince) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.dto.SubscriptionListRow;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes subscription rows as CSV, flushing every
+ * {@code subscription.export.flush-every} rows so output reaches the client
+ * (or the next gzip member) while rows are still being read.
+ */
+@Component
+public class CsvExportWriter {
+
+    private static final String[] HEADER = {
+            "Fan Name",
+            "Creator ID",
+            "Creator Name",
+            "Plan Name",
+            "Price",
+            "Duration (Days)",
+            "Start Date",
+            "End Date",
+            "Duration Text",
+            "Status",
+            "Auto Renewal",
+            "Remaining Days"
+    };
+
+    private final SubscriptionListItemMapper mapper;
+    private final int flushEvery;
+
+    public CsvExportWriter(SubscriptionListItemMapper mapper,
+                           @Value("${subscription.export.flush-every:1000}") int flushEvery) {
+        this.mapper = mapper;
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * Writes the header and all rows to {@code writer}. The writer is flushed but not closed.
+     *
+     * @return number of rows written
+     */
+    public long write(Stream<SubscriptionListRow> rows, Writer writer) throws IOException {
+        CSVPrinter csvPrinter = new CSVPrinter(writer, CSVFormat.DEFAULT.withHeader(HEADER));
+        SubscriptionListItemMapper.Session session = mapper.newSession(LocalDate.now());
+
+        long written = 0;
+        for (Iterator<SubscriptionListRow> it = rows.iterator(); it.hasNext(); ) {
+            // Cells are printed one by one straight from the row: no DTO or varargs array per row
+            SubscriptionListRow row = it.next();
+            csvPrinter.print(session.fanName(row));
+            csvPrinter.print(row.getCreatorId());
+            csvPrinter.print(session.creatorName(row));
+            csvPrinter.print(row.getPlanName());
+            csvPrinter.print(row.getPrice());
+            csvPrinter.print(row.getDurationInDays());
+            csvPrinter.print(row.getStartDate());
+            csvPrinter.print(row.getEndDate());
+            csvPrinter.print(session.durationText(row));
+            csvPrinter.print(session.statusLabel(row));
+            csvPrinter.print(session.autoRenewalLabel(row));
+            if (row.getEndDate() != null) {
+                csvPrinter.print(session.remainingDays(row));
+            } else {
+                csvPrinter.print(null);
+            }
+            csvPrinter.println();
+            if (++written % flushEvery == 0) {
+                csvPrinter.flush();
+            }
+        }
+        // Not closed: the caller owns the writer
+        csvPrinter.flush();
+        return written;
+    }
+}
@@ -1,147 +1,193 @@
 package com.subscription.service.service.impl;
 import com.subscription.service.dto.SubscriptionListItemDTO;
+import com.subscription.service.dto.SubscriptionListRow;
+import com.subscription.service.dto.SubscriptionPageDTO;
+import com.subscription.service.dto.SubscriptionPageRequest;
+import com.subscription.service.dto.SubscriptionSort;
 import com.subscription.service.dto.UpdateSubscriptionRequest;
-import com.subscription.service.entity.Plan;
 import com.subscription.service.entity.Subscription;
 import com.subscription.service.entity.SubscriptionStatus;
+import com.subscription.service.event.SubscriptionChange;
+import com.subscription.service.event.SubscriptionChangedEvent;
 import com.subscription.service.repository.DashboardRepository;
 import com.subscription.service.service.DashboardService;
+import com.subscription.service.tx.RetryingTransactionTemplate;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class DashboardServiceImpl implements DashboardService {
 
+    // Cursor value for a row without an end date (legacy rows; the column is nullable)
+    private static final String NULL_END_DATE = "-";
+
     private final DashboardRepository dashboardRepository;
+    private final SubscriptionListItemMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RetryingTransactionTemplate transactions;
 
     @Override
+    @Transactional(readOnly = true)
     public List<SubscriptionListItemDTO> getAllSubscriptions() {
-        return dashboardRepository.findAll().stream()
-                .map(this::toListItem)
-                .collect(Collectors.toList());
+        return toListItems(dashboardRepository.findAllRows(), LocalDate.now());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SubscriptionListItemDTO> getActiveSubscriptions() {
-        return dashboardRepository.findAllActive().stream()
-                .map(this::toListItem)
-                .collect(Collectors.toList());
+        return toListItems(dashboardRepository.findAllActive(), LocalDate.now());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SubscriptionListItemDTO> getCancelledSubscriptions() {
-        return dashboardRepository.findAllCancelled().stream()
-                .map(this::toListItem)
-                .collect(Collectors.toList());
+        return toListItems(dashboardRepository.findAllCancelled(), LocalDate.now());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<SubscriptionListItemDTO> getExpiredSubscriptions() {
-        return dashboardRepository.findAllExpired().stream()
-                .map(this::toListItem)
-                .collect(Collectors.toList());
+        return toListItems(dashboardRepository.findAllExpired(), LocalDate.now());
     }
 
     // ✅ Soon-expired ka fix
+    @Override
+    @Transactional(readOnly = true)
     public List<SubscriptionListItemDTO> getSoonExpiredSubscriptions() {
         LocalDate today = LocalDate.now();
         LocalDate after7 = today.plusDays(7);
-        return dashboardRepository.findAllSoonExpired(today, after7).stream()
-                .map(this::toListItem)
-                .collect(Collectors.toList());
+        return toListItems(dashboardRepository.findAllSoonExpired(today, after7), today);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SubscriptionPageDTO getSubscriptionPage(SubscriptionPageRequest request) {
+        LocalDate today = LocalDate.now();
+        Sort.Direction direction = request.getDirection();
+        SubscriptionSort sort = request.getSort();
+
+        SubscriptionPageDTO.SubscriptionPageDTOBuilder page = SubscriptionPageDTO.builder()
+                .size(request.getSize());
+
+        if (request.getPage() != null) {
+            Sort order = sort == SubscriptionSort.ID
+                    ? Sort.by(direction, "id")
+                    : Sort.by(direction, "endDate", "id");
+            Slice<SubscriptionListRow> slice = dashboardRepository.findSlice(request.getFilter(), today,
+                    PageRequest.of(request.getPage(), request.getSize(), order));
+            page.page(request.getPage())
+                    .hasNext(slice.hasNext())
+                    .items(toListItems(slice.getContent(), today));
+        } else {
+            KeysetScrollPosition position = decodeCursor(request.getCursor(), sort, direction);
+            Window<SubscriptionListRow> window = dashboardRepository.findWindow(request.getFilter(), today,
+                    sort, direction, position, request.getSize());
+            page.hasNext(window.hasNext())
+                    .nextCursor(window.hasNext() && !window.isEmpty()
+                            ? encodeCursor((KeysetScrollPosition) window.positionAt(window.size() - 1), sort, direction)
+                            : null)
+                    .items(toListItems(window.getContent(), today));
+        }
+
+        if (request.isIncludeTotal()) {
+            page.totalElements(dashboardRepository.countByFilter(request.getFilter(), today));
+        }
+        return page.build();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public SubscriptionListItemDTO getById(Long id) {
-        Subscription s = dashboardRepository.findById(id)
+        SubscriptionListRow row = dashboardRepository.findRowById(id)
                 .orElseThrow(() -> new RuntimeException("Subscription not found"));
-        return toListItem(s);
+        return mapper.toListItem(row);
     }
 
+    // Both writes are retried when a concurrent status change moves the row to another partition first
     @Override
     public SubscriptionListItemDTO update(Long id, UpdateSubscriptionRequest req) {
-        Subscription s = dashboardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Subscription not found"));
+        return transactions.execute(status -> {
+            Subscription s = dashboardRepository.findById(id)
+                    .orElseThrow(() -> new RuntimeException("Subscription not found"));
 
-        if (req.getAutoRenewal() != null) {
-            s.setAutoRenewal(req.getAutoRenewal());
-        }
-        dashboardRepository.save(s);
-        return toListItem(s);
+            if (req.getAutoRenewal() != null) {
+                s.setAutoRenewal(req.getAutoRenewal());
+            }
+            dashboardRepository.save(s);
+            return mapper.toListItem(SubscriptionListRow.from(s));
+        });
     }
 
     @Override
     public SubscriptionListItemDTO cancelSubscription(Long subscriptionId) {
-        Subscription s = dashboardRepository.findById(subscriptionId)
-                .orElseThrow(() -> new RuntimeException("Subscription not found"));
-
-        s.setStatus(SubscriptionStatus.CANCELLED);
-        s.setActive(false);
-        dashboardRepository.save(s);
-        return toListItem(s);
+        return transactions.execute(status -> {
+            Subscription s = dashboardRepository.findById(subscriptionId)
+                    .orElseThrow(() -> new RuntimeException("Subscription not found"));
+
+            boolean wasActive = s.isActive();
+            s.setStatus(SubscriptionStatus.CANCELLED);
+            s.setActive(false);
+            dashboardRepository.save(s);
+            eventPublisher.publishEvent(SubscriptionChangedEvent.of(SubscriptionChange.cancelled(s, wasActive)));
+            return mapper.toListItem(SubscriptionListRow.from(s));
+        });
     }
 
-    // -------- Mapper for dashboard table rows --------
-    private SubscriptionListItemDTO toListItem(Subscription s) {
-        Plan p = s.getPlan();
-
-        // Creator Name
-        String creatorName = ((p.getFirstName() != null ? p.getFirstName().trim() : "")
-                + (p.getLastName() != null ? (" " + p.getLastName().trim()) : "")).trim();
-        if (creatorName.isEmpty()) creatorName = p.getCreatorId();
+    // One mapping session per request: "today" and per-plan labels are computed once
+    private List<SubscriptionListItemDTO> toListItems(List<SubscriptionListRow> rows, LocalDate today) {
+        SubscriptionListItemMapper.Session session = mapper.newSession(today);
+        List<SubscriptionListItemDTO> items = new ArrayList<>(rows.size());
+        for (SubscriptionListRow row : rows) {
+            items.add(session.toListItem(row));
+        }
+        return items;
+    }
 
-        // Fan Name
-        String fanName = ((s.getFirstName() != null ? s.getFirstName().trim() : "")
-                + (s.getLastName() != null ? (" " + s.getLastName().trim()) : "")).trim();
+    // -------- Opaque keyset cursor: base64url("SORT:DIRECTION:id[:endDate]") --------
+    private String encodeCursor(KeysetScrollPosition position, SubscriptionSort sort, Sort.Direction direction) {
+        Map<String, Object> keys = position.getKeys();
+        Object endDate = keys.get("endDate");
+        String raw = sort.name() + ":" + direction.name() + ":" + keys.get("id")
+                + (sort == SubscriptionSort.END_DATE ? ":" + (endDate != null ? endDate : NULL_END_DATE) : "");
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
 
-        // Remaining Days
-        Long remainingDays = null;
-        if (s.getEndDate() != null) {
-            remainingDays = s.getEndDate().toEpochDay() - LocalDate.now().toEpochDay();
-            if (remainingDays < 0) remainingDays = 0L;
+    private KeysetScrollPosition decodeCursor(String cursor, SubscriptionSort sort, Sort.Direction direction) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
         }
-
-        // Status Label
-        String statusLabel;
-        if (s.getStatus() == SubscriptionStatus.CANCELLED) {
-            statusLabel = "cancelled";
-        } else if (s.getEndDate() != null) {
-            if (s.getEndDate().isBefore(LocalDate.now())) {
-                statusLabel = "expired";
-            } else if (remainingDays != null && remainingDays <= 7) {
-                statusLabel = "soon_expired";
-            } else {
-                statusLabel = "active";
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (!parts[0].equals(sort.name()) || !parts[1].equals(direction.name())) {
+                throw new IllegalArgumentException("cursor was issued for a different sort");
             }
-        } else {
-            statusLabel = "active";
+            Map<String, Object> keys = new LinkedHashMap<>();
+            if (sort == SubscriptionSort.END_DATE) {
+                keys.put("endDate", NULL_END_DATE.equals(parts[3]) ? null : LocalDate.parse(parts[3]));
+            }
+            keys.put("id", Long.valueOf(parts[2]));
+            return ScrollPosition.forward(keys);
+        } catch (RuntimeException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor: " + cursor, e);
         }
-
-        // Duration text
-        DateTimeFormatter fmt = DateTimeFormatter.ISO_DATE;
-        String durationText = (s.getStartDate() != null && s.getEndDate() != null)
-                ? (fmt.format(s.getStartDate()) + " - " + fmt.format(s.getEndDate()))
-                : "-";
-
-        return SubscriptionListItemDTO.builder()
-                .fanName(fanName)
-                .creatorId(p.getCreatorId())
-                .creatorName(creatorName)
-                .planName(p.getName())
-                .price(p.getPrice())
-                .durationInDays(p.getDurationInDays())
-                .startDate(s.getStartDate())
-                .endDate(s.getEndDate())
-                .durationText(durationText)
-                .status(statusLabel)
-                .autoRenewal(Boolean.TRUE.equals(s.getAutoRenewal()) ? "On" : "Off")
-                .remainingDays(remainingDays)
-                .build();
     }
 }
@@ -0,0 +1,226 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.dto.ExportJobDTO;
+import com.subscription.service.dto.SubscriptionFilter;
+import com.subscription.service.service.ExportJobService;
+import com.subscription.service.service.ExportService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link ExportJobService} backed by a bounded executor and local disk.
+ * <p>
+ * Each job streams rows through {@link ExportService#writeSubscriptions} into a
+ * {@link GzipPartsOutputStream}, so every periodic flush of the CSV writer
+ * completes a gzip member on disk. The file is written as {@code <id>.csv.gz.part}
+ * and renamed to {@code <id>.csv.gz} once complete. Identical requests (same
+ * filter and date) share the job that is already queued or running. Job state
+ * is in-memory; finished jobs and their files are purged after
+ * {@code subscription.export.job-retention}.
+ * </p>
+ */
+@Slf4j
+@Service
+public class ExportJobServiceImpl implements ExportJobService {
+
+    private final ExportService exportService;
+    private final TaskExecutor executor;
+    private final Path exportDir;
+    private final Duration retention;
+
+    private final Map<String, ExportJob> jobs = new ConcurrentHashMap<>();
+    private final Map<String, ExportJob> inFlightByKey = new ConcurrentHashMap<>();
+
+    public ExportJobServiceImpl(ExportService exportService,
+                                @Qualifier("exportJobExecutor") TaskExecutor executor,
+                                @Value("${subscription.export.job-dir:${java.io.tmpdir}/subscription-exports}") Path exportDir,
+                                @Value("${subscription.export.job-retention:PT24H}") Duration retention) {
+        this.exportService = exportService;
+        this.executor = executor;
+        this.exportDir = exportDir;
+        this.retention = retention;
+        try {
+            Files.createDirectories(exportDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create export directory " + exportDir, e);
+        }
+    }
+
+    @Override
+    public ExportJobDTO submit(String filter) {
+        SubscriptionFilter subscriptionFilter = SubscriptionFilter.fromParam(filter)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid filter: " + filter));
+        String key = subscriptionFilter.getParam() + ":" + LocalDate.now();
+
+        ExportJob[] created = new ExportJob[1];
+        ExportJob job = inFlightByKey.computeIfAbsent(key, k -> {
+            created[0] = new ExportJob(UUID.randomUUID().toString(), subscriptionFilter, k);
+            return created[0];
+        });
+
+        if (created[0] != null) {
+            jobs.put(job.id, job);
+            try {
+                executor.execute(() -> run(job));
+            } catch (TaskRejectedException e) {
+                inFlightByKey.remove(key, job);
+                jobs.remove(job.id);
+                throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Export queue is full, retry later");
+            }
+            log.info("Queued export job {} for filter {}", job.id, key);
+        }
+        return toDto(job);
+    }
+
+    @Override
+    public ExportJobDTO getJob(String jobId) {
+        return toDto(find(jobId));
+    }
+
+    @Override
+    public Path getArtifact(String jobId) {
+        ExportJob job = find(jobId);
+        if (job.status != Status.COMPLETED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Export job " + jobId + " is " + job.status.label);
+        }
+        return job.file;
+    }
+
+    /**
+     * Removes finished jobs older than the retention period together with their files.
+     */
+    @Scheduled(fixedDelayString = "${subscription.export.job-purge-interval:PT1H}")
+    public void purgeExpiredJobs() {
+        Instant cutoff = Instant.now().minus(retention);
+        jobs.values().removeIf(job -> {
+            if (job.completedAt == null || job.completedAt.isAfter(cutoff)) {
+                return false;
+            }
+            deleteQuietly(job.file);
+            return true;
+        });
+    }
+
+    private void run(ExportJob job) {
+        job.status = Status.RUNNING;
+        Path partial = exportDir.resolve(job.id + ".csv.gz.part");
+        Path target = exportDir.resolve(job.id + ".csv.gz");
+        try {
+            long rows;
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GzipPartsOutputStream(new BufferedOutputStream(Files.newOutputStream(partial))),
+                    StandardCharsets.UTF_8))) {
+                rows = exportService.writeSubscriptions(job.filter, writer);
+            }
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            job.rows = rows;
+            job.sizeBytes = Files.size(target);
+            job.file = target;
+            job.completedAt = Instant.now();
+            job.status = Status.COMPLETED;
+            log.info("Export job {} completed: {} rows, {} bytes", job.id, rows, job.sizeBytes);
+        } catch (Exception e) {
+            log.error("Export job {} failed", job.id, e);
+            deleteQuietly(partial);
+            job.error = e.getMessage();
+            job.completedAt = Instant.now();
+            job.status = Status.FAILED;
+        } finally {
+            inFlightByKey.remove(job.key, job);
+        }
+    }
+
+    private ExportJob find(String jobId) {
+        ExportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Export job not found: " + jobId);
+        }
+        return job;
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}", file, e);
+        }
+    }
+
+    private ExportJobDTO toDto(ExportJob job) {
+        return ExportJobDTO.builder()
+                .id(job.id)
+                .filter(job.filter.getParam())
+                .status(job.status.label)
+                .rows(job.rows)
+                .sizeBytes(job.sizeBytes)
+                .downloadUrl(job.status == Status.COMPLETED
+                        ? "/api/dashboard/exports/" + job.id + "/download"
+                        : null)
+                .createdAt(job.createdAt)
+                .completedAt(job.completedAt)
+                .error(job.error)
+                .build();
+    }
+
+    private enum Status {
+        QUEUED("queued"),
+        RUNNING("running"),
+        COMPLETED("completed"),
+        FAILED("failed");
+
+        private final String label;
+
+        Status(String label) {
+            this.label = label;
+        }
+    }
+
+    // Mutable job state; fields are written by the worker thread and read by request threads
+    private static final class ExportJob {
+        private final String id;
+        private final SubscriptionFilter filter;
+        private final String key;
+        private final Instant createdAt = Instant.now();
+
+        private volatile Status status = Status.QUEUED;
+        private volatile Long rows;
+        private volatile Long sizeBytes;
+        private volatile Path file;
+        private volatile Instant completedAt;
+        private volatile String error;
+
+        private ExportJob(String id, SubscriptionFilter filter, String key) {
+            this.id = id;
+            this.filter = filter;
+            this.key = key;
+        }
+    }
+}
@@ -1,25 +1,34 @@
 package com.subscription.service.service.impl;
 
-import com.subscription.service.dto.SubscriptionListItemDTO;
-import com.subscription.service.service.DashboardService;
+import com.subscription.service.dto.ExportFormat;
+import com.subscription.service.dto.SubscriptionFilter;
+import com.subscription.service.dto.SubscriptionListRow;
+import com.subscription.service.repository.DashboardRepository;
 import com.subscription.service.service.ExportService;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.csv.CSVFormat;
-import org.apache.commons.csv.CSVPrinter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.PrintWriter;
-import java.util.List;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.util.stream.Stream;
 
 /**
  * {@link ExportService} implementation that provides functionality
- * to export subscription data into a CSV format file.
+ * to export subscription data into a CSV format file, a JSON array or, via
+ * {@link ArrowExportWriter}, an Apache Arrow IPC stream.
  * <p>
- * This class uses {@link DashboardService} to fetch subscription data
- * based on the given filter (active, cancelled, expired, etc.) and
- * writes the data into the HTTP response as a downloadable CSV file.
+ * Rows are streamed from {@link DashboardRepository#streamByFilter} through a
+ * forward-only, fetch-size-limited cursor and written to the response as they
+ * arrive by {@link CsvExportWriter} or {@link JsonExportWriter}, with a flush
+ * every {@code subscription.export.flush-every} rows.
+ * Memory use is therefore independent of the number of exported rows and the
+ * first bytes reach the client before the query has finished.
  * </p>
  *
  * <p>CSV columns include:</p>
@@ -45,10 +54,16 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ExportServiceImpl implements ExportService {
 
-    private final DashboardService dashboardService;
+    private final DashboardRepository dashboardRepository;
+    private final CsvExportWriter csvExportWriter;
+    private final JsonExportWriter jsonExportWriter;
+    private final ArrowExportWriter arrowExportWriter;
+
+    @Value("${subscription.export.fetch-size:1000}")
+    private int fetchSize;
 
     /**
-     * Exports subscription data into a CSV file based on the provided filter.
+     * Exports subscription data in the requested format based on the provided filter.
      *
      * <p>Valid filters are:</p>
      * <ul>
@@ -62,57 +77,59 @@ public class ExportServiceImpl implements ExportService {
      * <p>If an invalid filter is passed, an {@link IllegalArgumentException} is thrown.</p>
      *
      * @param filter   the filter for selecting subscriptions (e.g., "active", "all").
-     * @param response the {@link HttpServletResponse} to which the CSV will be written.
-     * @throws RuntimeException if an I/O error occurs while writing CSV data.
+     * @param format   {@link ExportFormat#CSV}, {@link ExportFormat#JSON} or {@link ExportFormat#ARROW}.
+     * @param response the {@link HttpServletResponse} to which the export will be written.
+     * @throws RuntimeException if an I/O error occurs while writing export data.
      */
     @Override
-    public void exportSubscriptions(String filter, HttpServletResponse response) {
-        List<SubscriptionListItemDTO> subscriptions = switch (filter.toLowerCase()) {
-            case "active"       -> dashboardService.getActiveSubscriptions();
-            case "cancelled"    -> dashboardService.getCancelledSubscriptions();
-            case "expired"      -> dashboardService.getExpiredSubscriptions();
-            case "soon-expired" -> dashboardService.getSoonExpiredSubscriptions();
-            case "all"          -> dashboardService.getAllSubscriptions();
-            default             -> throw new IllegalArgumentException("Invalid filter: " + filter);
-        };
+    @Transactional(readOnly = true)
+    public void exportSubscriptions(String filter, ExportFormat format, HttpServletResponse response) {
+        SubscriptionFilter subscriptionFilter = SubscriptionFilter.fromParam(filter)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid filter: " + filter));
 
-        try (
-                PrintWriter writer = response.getWriter();
-                CSVPrinter csvPrinter = new CSVPrinter(writer,
-                        CSVFormat.DEFAULT.withHeader(
-                                "Fan Name",
-                                "Creator ID",
-                                "Creator Name",
-                                "Plan Name",
-                                "Price",
-                                "Duration (Days)",
-                                "Start Date",
-                                "End Date",
-                                "Duration Text",
-                                "Status",
-                                "Auto Renewal",
-                                "Remaining Days"
-                        ))
-        ) {
-            for (SubscriptionListItemDTO sub : subscriptions) {
-                csvPrinter.printRecord(
-                        sub.getFanName(),
-                        sub.getCreatorId(),
-                        sub.getCreatorName(),
-                        sub.getPlanName(),
-                        sub.getPrice(),
-                        sub.getDurationInDays(),
-                        sub.getStartDate(),
-                        sub.getEndDate(),
-                        sub.getDurationText(),
-                        sub.getStatus(),
-                        sub.getAutoRenewal(),
-                        sub.getRemainingDays()
-                );
+        switch (format) {
+            case CSV -> {
+                try (PrintWriter writer = response.getWriter()) {
+                    writeCsv(subscriptionFilter, writer);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to export subscriptions to CSV", e);
+                }
+            }
+            case JSON -> {
+                try (Stream<SubscriptionListRow> rows =
+                             dashboardRepository.streamByFilter(subscriptionFilter, LocalDate.now(), fetchSize);
+                     OutputStream out = response.getOutputStream()) {
+                    jsonExportWriter.write(rows, out);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to export subscriptions to JSON", e);
+                }
+            }
+            case ARROW -> {
+                try (Stream<SubscriptionListRow> rows =
+                             dashboardRepository.streamByFilter(subscriptionFilter, LocalDate.now(), fetchSize);
+                     OutputStream out = response.getOutputStream()) {
+                    arrowExportWriter.write(rows, out);
+                } catch (IOException e) {
+                    throw new RuntimeException("Failed to export subscriptions to Arrow", e);
+                }
             }
-            csvPrinter.flush();
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long writeSubscriptions(SubscriptionFilter filter, Writer writer) {
+        try {
+            return writeCsv(filter, writer);
         } catch (IOException e) {
             throw new RuntimeException("Failed to export subscriptions to CSV", e);
         }
     }
+
+    private long writeCsv(SubscriptionFilter filter, Writer writer) throws IOException {
+        try (Stream<SubscriptionListRow> rows =
+                     dashboardRepository.streamByFilter(filter, LocalDate.now(), fetchSize)) {
+            return csvExportWriter.write(rows, writer);
+        }
+    }
 }
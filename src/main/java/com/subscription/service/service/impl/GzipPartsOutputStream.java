@@ -0,0 +1,73 @@
+package com.subscription.service.service.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip stream that closes the current gzip member on every {@link #flush()}
+ * and starts a new one on the next write.
+ * <p>
+ * Concatenated gzip members form a valid gzip file (RFC 1952), so every
+ * flushed part is durable and decodable on its own while the export is
+ * still running, and standard tools read the finished file transparently.
+ * </p>
+ */
+class GzipPartsOutputStream extends OutputStream {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final OutputStream out;
+    private Member member;
+
+    GzipPartsOutputStream(OutputStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        current().write(b);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len > 0) {
+            current().write(b, off, len);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (member != null) {
+            member.finishAndRelease();
+            member = null;
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        out.close();
+    }
+
+    private Member current() throws IOException {
+        if (member == null) {
+            member = new Member(out);
+        }
+        return member;
+    }
+
+    private static final class Member extends GZIPOutputStream {
+
+        Member(OutputStream out) throws IOException {
+            super(out, BUFFER_SIZE);
+        }
+
+        // Writes the member trailer and frees the native deflater without closing the file
+        void finishAndRelease() throws IOException {
+            finish();
+            def.end();
+        }
+    }
+}
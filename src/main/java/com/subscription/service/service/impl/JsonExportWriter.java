@@ -0,0 +1,90 @@
+package com.subscription.service.service.impl;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.subscription.service.dto.SubscriptionListRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes subscription rows as a JSON array with the same fields as
+ * {@link com.subscription.service.dto.SubscriptionListItemDTO}.
+ * <p>
+ * Rows go straight from the projection to a streaming {@link JsonGenerator};
+ * no DTO or tree is built per row, and the generator is flushed every
+ * {@code subscription.export.flush-every} rows.
+ * </p>
+ */
+@Component
+public class JsonExportWriter {
+
+    private final ObjectMapper objectMapper;
+    private final SubscriptionListItemMapper mapper;
+    private final int flushEvery;
+
+    public JsonExportWriter(ObjectMapper objectMapper,
+                            SubscriptionListItemMapper mapper,
+                            @Value("${subscription.export.flush-every:1000}") int flushEvery) {
+        this.objectMapper = objectMapper;
+        this.mapper = mapper;
+        this.flushEvery = flushEvery;
+    }
+
+    /**
+     * Writes all rows to {@code out}. {@code out} is flushed but not closed.
+     *
+     * @return number of rows written
+     */
+    public long write(Stream<SubscriptionListRow> rows, OutputStream out) throws IOException {
+        SubscriptionListItemMapper.Session session = mapper.newSession(LocalDate.now());
+        long written = 0;
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.writeStartArray();
+            for (Iterator<SubscriptionListRow> it = rows.iterator(); it.hasNext(); ) {
+                SubscriptionListRow row = it.next();
+                json.writeStartObject();
+                writeNumber(json, "id", row.getId());
+                writeString(json, "fanName", session.fanName(row));
+                writeString(json, "creatorId", row.getCreatorId());
+                writeString(json, "creatorName", session.creatorName(row));
+                writeString(json, "planName", row.getPlanName());
+                if (row.getPrice() != null) json.writeNumberField("price", row.getPrice()); else json.writeNullField("price");
+                if (row.getDurationInDays() != null) json.writeNumberField("durationInDays", row.getDurationInDays()); else json.writeNullField("durationInDays");
+                writeDate(json, "startDate", row.getStartDate());
+                writeDate(json, "endDate", row.getEndDate());
+                writeString(json, "durationText", session.durationText(row));
+                writeString(json, "status", session.statusLabel(row));
+                writeString(json, "autoRenewal", session.autoRenewalLabel(row));
+                if (row.getEndDate() != null) json.writeNumberField("remainingDays", session.remainingDays(row)); else json.writeNullField("remainingDays");
+                json.writeEndObject();
+                if (++written % flushEvery == 0) {
+                    json.flush();
+                }
+            }
+            json.writeEndArray();
+        }
+        out.flush();
+        return written;
+    }
+
+    private static void writeString(JsonGenerator json, String field, String value) throws IOException {
+        if (value != null) json.writeStringField(field, value); else json.writeNullField(field);
+    }
+
+    private static void writeNumber(JsonGenerator json, String field, Long value) throws IOException {
+        if (value != null) json.writeNumberField(field, value); else json.writeNullField(field);
+    }
+
+    // ISO yyyy-MM-dd, matching how the REST endpoints serialize LocalDate
+    private static void writeDate(JsonGenerator json, String field, LocalDate value) throws IOException {
+        if (value != null) json.writeStringField(field, value.toString()); else json.writeNullField(field);
+    }
+}
@@ -1,21 +1,22 @@
 package com.subscription.service.service.impl;
 
+import com.subscription.service.cache.PlanCache;
 import com.subscription.service.dto.PlanRequest;
 import com.subscription.service.dto.PlanResponse;
+import com.subscription.service.dto.VersionedPlanList;
 import com.subscription.service.entity.Plan;
 import com.subscription.service.repository.PlanRepository;
 import com.subscription.service.service.PlanService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PlanServiceImpl implements PlanService {
 
     private final PlanRepository planRepository;
+    private final PlanCache planCache;
 
     @Override
     public PlanResponse createPlan(PlanRequest request, String creatorId,String firstName,String lastName) {
@@ -30,23 +31,24 @@ public class PlanServiceImpl implements PlanService {
                 .build();
 
         Plan saved = planRepository.save(plan);
+        planCache.planCreated(saved);
         return mapToResponse(saved);
     }
 
     @Override
-    public List<PlanResponse> getAllPlans() {
-        return planRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public VersionedPlanList getAllPlans() {
+        return toVersioned("plans-", planCache.allPlans());
     }
 
     @Override
-    public List<PlanResponse> getPlansByCreator(String creatorId) {
-        return planRepository.findByCreatorId(creatorId)
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public VersionedPlanList getPlansByCreator(String creatorId) {
+        return toVersioned("creator-plans-", planCache.creatorPlans(creatorId));
+    }
+
+    // Tag and body come from one cached snapshot, so a concurrent reload cannot pair them wrongly
+    private VersionedPlanList toVersioned(String tagPrefix, PlanCache.PlanList snapshot) {
+        return new VersionedPlanList(tagPrefix + snapshot.version(),
+                snapshot.plans().stream().map(this::mapToResponse).toList());
     }
 
     private PlanResponse mapToResponse(Plan plan) {
@@ -0,0 +1,42 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.service.ResourceVersionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    // Responses embed plan name/price/duration, so plan changes must move the tag too
+    static final String USER_SUBSCRIPTIONS_SQL = """
+            SELECT COUNT(*) AS n,
+                   GREATEST(MAX(s.updated_at), MAX(p.updated_at)) AS updated,
+                   MAX(s.id) AS max_id
+            FROM subscription s
+            LEFT JOIN plan p ON p.id = s.plan_id
+            WHERE s.user_id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public String userSubscriptionsVersion(String userId) {
+        return jdbcTemplate.queryForObject(USER_SUBSCRIPTIONS_SQL, (rs, i) -> tag("subscriptions", rs), userId);
+    }
+
+    private static String tag(String resource, ResultSet rs) throws SQLException {
+        Timestamp updated = rs.getTimestamp("updated");
+        long updatedMicros = updated != null
+                ? updated.getTime() / 1000 * 1_000_000 + updated.getNanos() / 1000
+                : 0L;
+        return resource + "-" + Long.toHexString(rs.getLong("n"))
+                + "-" + Long.toHexString(updatedMicros)
+                + "-" + Long.toHexString(rs.getLong("max_id"));
+    }
+}
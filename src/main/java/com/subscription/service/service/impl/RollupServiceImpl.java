@@ -0,0 +1,45 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.dto.RollupPointDTO;
+import com.subscription.service.dto.RollupTotalDTO;
+import com.subscription.service.repository.DailyRollupRepository;
+import com.subscription.service.service.RollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Reads trend data from {@code daily_rollup}; never touches the subscription table.
+ * Days after the last rollup checkpoint (normally just today) are not included.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RollupServiceImpl implements RollupService {
+
+    private final DailyRollupRepository dailyRollupRepository;
+
+    @Override
+    public List<RollupPointDTO> getDailySeries(LocalDate from, LocalDate to, Long planId, String creatorId) {
+        if (planId != null) {
+            return dailyRollupRepository.findDailySeriesByPlan(planId, from, to);
+        }
+        if (creatorId != null) {
+            return dailyRollupRepository.findDailySeriesByCreator(creatorId, from, to);
+        }
+        return dailyRollupRepository.findDailySeries(from, to);
+    }
+
+    @Override
+    public List<RollupTotalDTO> getPlanTotals(LocalDate from, LocalDate to) {
+        return dailyRollupRepository.findPlanTotals(from, to);
+    }
+
+    @Override
+    public List<RollupTotalDTO> getCreatorTotals(LocalDate from, LocalDate to) {
+        return dailyRollupRepository.findCreatorTotals(from, to);
+    }
+}
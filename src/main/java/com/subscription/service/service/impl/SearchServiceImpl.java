@@ -0,0 +1,159 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.dto.PlanPageDTO;
+import com.subscription.service.dto.PlanResponse;
+import com.subscription.service.dto.SubscriptionListItemDTO;
+import com.subscription.service.dto.SubscriptionListRow;
+import com.subscription.service.dto.SubscriptionPageDTO;
+import com.subscription.service.repository.DashboardRepository;
+import com.subscription.service.service.SearchService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Name search backed by the trigram GIN indexes from {@code V7__search_trigram_indexes.sql}.
+ * <p>
+ * A row matches when any word of the name starts with the query (prefix
+ * match) or when the query is similar enough to a part of the name (fuzzy
+ * match, {@code term <% name}, threshold
+ * {@code subscription.search.similarity-threshold}). Both predicates are
+ * answered from the same index. Prefix matches rank first, then by word
+ * similarity, then by ID. Pages are offset based with a look-ahead row for
+ * {@code hasNext}; totals are never counted, since counting fuzzy matches
+ * would read every one of them.
+ * </p>
+ */
+@Service
+@Transactional(readOnly = true)
+public class SearchServiceImpl implements SearchService {
+
+    // Must match the index expressions exactly, or the planner cannot use them
+    private static final String FAN_NAME = "lower(coalesce(s.first_name, '') || ' ' || coalesce(s.last_name, ''))";
+    private static final String PLAN_NAME = "lower(p.name)";
+    private static final String CREATOR_NAME = "lower(coalesce(p.first_name, '') || ' ' || coalesce(p.last_name, ''))";
+
+    private static final String SET_THRESHOLD_SQL =
+            "SELECT set_config('pg_trgm.word_similarity_threshold', :threshold, true)";
+
+    static final String SUBSCRIPTION_IDS_SQL = """
+            SELECT s.id
+            FROM subscription s
+            WHERE %1$s LIKE lower(:prefix) OR %1$s LIKE lower(:wordPrefix) OR lower(:term) <%% %1$s
+            ORDER BY (%1$s LIKE lower(:prefix) OR %1$s LIKE lower(:wordPrefix)) DESC,
+                     word_similarity(lower(:term), %1$s) DESC,
+                     s.id
+            LIMIT :limit OFFSET :offset
+            """.formatted(FAN_NAME);
+
+    static final String PLANS_SQL = """
+            SELECT p.id, p.name, p.description, p.price, p.duration_in_days, p.creator_id
+            FROM plan p
+            WHERE %1$s LIKE lower(:prefix) OR %1$s LIKE lower(:wordPrefix) OR lower(:term) <%% %1$s
+               OR %2$s LIKE lower(:prefix) OR %2$s LIKE lower(:wordPrefix) OR lower(:term) <%% %2$s
+            ORDER BY (%1$s LIKE lower(:prefix) OR %1$s LIKE lower(:wordPrefix)
+                      OR %2$s LIKE lower(:prefix) OR %2$s LIKE lower(:wordPrefix)) DESC,
+                     GREATEST(word_similarity(lower(:term), %1$s), word_similarity(lower(:term), %2$s)) DESC,
+                     p.id
+            LIMIT :limit OFFSET :offset
+            """.formatted(PLAN_NAME, CREATOR_NAME);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DashboardRepository dashboardRepository;
+    private final SubscriptionListItemMapper mapper;
+    private final String similarityThreshold;
+
+    public SearchServiceImpl(NamedParameterJdbcTemplate jdbcTemplate,
+                             DashboardRepository dashboardRepository,
+                             SubscriptionListItemMapper mapper,
+                             @Value("${subscription.search.similarity-threshold:0.5}") double similarityThreshold) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dashboardRepository = dashboardRepository;
+        this.mapper = mapper;
+        this.similarityThreshold = Double.toString(similarityThreshold);
+    }
+
+    @Override
+    public SubscriptionPageDTO searchSubscriptions(String query, int page, int size) {
+        applyThreshold();
+        List<Long> ids = jdbcTemplate.queryForList(SUBSCRIPTION_IDS_SQL, params(query, page, size), Long.class);
+        boolean hasNext = ids.size() > size;
+        if (hasNext) {
+            ids = ids.subList(0, size);
+        }
+
+        // Rows come back unordered; put them back in rank order
+        Map<Long, SubscriptionListRow> rows = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (SubscriptionListRow row : dashboardRepository.findRowsByIds(ids)) {
+                rows.put(row.getId(), row);
+            }
+        }
+        SubscriptionListItemMapper.Session session = mapper.newSession(LocalDate.now());
+        List<SubscriptionListItemDTO> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            SubscriptionListRow row = rows.get(id);
+            if (row != null) {
+                items.add(session.toListItem(row));
+            }
+        }
+
+        return SubscriptionPageDTO.builder()
+                .items(items)
+                .page(page)
+                .size(size)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    public PlanPageDTO searchPlans(String query, int page, int size) {
+        applyThreshold();
+        List<PlanResponse> plans = jdbcTemplate.query(PLANS_SQL, params(query, page, size),
+                (rs, rowNum) -> PlanResponse.builder()
+                        .id(rs.getLong("id"))
+                        .name(rs.getString("name"))
+                        .description(rs.getString("description"))
+                        .price(rs.getDouble("price"))
+                        .durationInDays(rs.getInt("duration_in_days"))
+                        .creatorId(rs.getString("creator_id"))
+                        .build());
+        boolean hasNext = plans.size() > size;
+
+        return PlanPageDTO.builder()
+                .items(hasNext ? plans.subList(0, size) : plans)
+                .page(page)
+                .size(size)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // Transaction-local, so pooled connections keep the server default
+    private void applyThreshold() {
+        jdbcTemplate.queryForObject(SET_THRESHOLD_SQL, Map.of("threshold", similarityThreshold), String.class);
+    }
+
+    // Names are stored as "first last"; the query is matched at the start of the name or of any later word
+    static MapSqlParameterSource params(String query, int page, int size) {
+        String term = query.strip().replaceAll("\\s+", " ");
+        String escaped = escapeLike(term);
+        return new MapSqlParameterSource()
+                .addValue("term", term)
+                .addValue("prefix", escaped + "%")
+                .addValue("wordPrefix", "% " + escaped + "%")
+                .addValue("limit", size + 1)
+                .addValue("offset", (long) page * size);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
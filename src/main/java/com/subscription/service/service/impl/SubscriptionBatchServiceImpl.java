@@ -0,0 +1,297 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.dto.BatchItemResultDTO;
+import com.subscription.service.dto.BatchResultDTO;
+import com.subscription.service.dto.BatchSubscribeItem;
+import com.subscription.service.entity.Plan;
+import com.subscription.service.event.SubscriptionChange;
+import com.subscription.service.event.SubscriptionChangeType;
+import com.subscription.service.event.SubscriptionChangedEvent;
+import com.subscription.service.repository.PlanRepository;
+import com.subscription.service.service.SubscriptionBatchService;
+import com.subscription.service.tx.RetryingTransactionTemplate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC implementation of {@link SubscriptionBatchService}.
+ * <p>
+ * A subscribe batch costs a fixed number of statements regardless of its size:
+ * one {@code IN} query for all referenced plans, one probe of the active
+ * {@code (user_id, creator_id)} index for every pair at once, one sequence call
+ * for all new IDs and one JDBC batch of inserts. Inserts go straight to the
+ * {@code subscription_active} partition with {@code ON CONFLICT DO NOTHING} on
+ * its unique index, so a subscribe that races in after the probe rejects only
+ * its own item. A cancel batch locks all rows with one {@code id = ANY(?)}
+ * query and updates them in one JDBC batch. One {@link SubscriptionChangedEvent}
+ * is published per batch.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class SubscriptionBatchServiceImpl implements SubscriptionBatchService {
+
+    private static final String CREATED = "created";
+    private static final String CANCELLED = "cancelled";
+    private static final String REJECTED = "rejected";
+    private static final String DUPLICATE_IN_BATCH_MESSAGE = "Duplicate of an earlier item in this batch";
+
+    private static final String SELECT_ACTIVE_PAIRS_SQL = """
+            SELECT s.user_id, s.creator_id
+            FROM subscription s
+            JOIN unnest(CAST(? AS text[]), CAST(? AS text[])) AS k(user_id, creator_id)
+              ON s.user_id = k.user_id AND s.creator_id = k.creator_id
+            WHERE s.status = 'ACTIVE'
+            """;
+
+    private static final String ALLOCATE_IDS_SQL =
+            "SELECT nextval('subscription_id_seq') FROM generate_series(1, ?)";
+
+    // Targets the partition because the unique index used as the conflict arbiter lives there (migration V3)
+    private static final String INSERT_SQL = """
+            INSERT INTO subscription_active
+                (id, user_id, plan_id, creator_id, start_date, end_date, active,
+                 first_name, last_name, status, auto_renewal, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, true, ?, ?, 'ACTIVE', ?, now())
+            ON CONFLICT (user_id, creator_id) DO NOTHING
+            """;
+
+    private static final String SELECT_FOR_CANCEL_SQL = """
+            SELECT s.id, s.user_id, s.start_date, s.end_date, s.active,
+                   p.id AS plan_id, p.creator_id, p.price
+            FROM subscription s
+            LEFT JOIN plan p ON p.id = s.plan_id
+            WHERE s.id = ANY(?)
+            FOR UPDATE OF s
+            """;
+
+    private static final String CANCEL_SQL =
+            "UPDATE subscription SET status = 'CANCELLED', active = false, updated_at = now() WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlanRepository planRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RetryingTransactionTemplate transactions;
+
+    @Override
+    @Transactional
+    public BatchResultDTO createSubscriptions(List<BatchSubscribeItem> items) {
+        BatchItemResultDTO[] results = new BatchItemResultDTO[items.size()];
+
+        Set<Long> planIds = items.stream()
+                .map(BatchSubscribeItem::getPlanId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Plan> plans = planRepository.findAllById(planIds).stream()
+                .collect(Collectors.toMap(Plan::getId, Function.identity()));
+
+        // Validate in request order; the first item for a user/creator pair wins
+        List<Integer> candidates = new ArrayList<>();
+        Set<ActiveKey> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            BatchSubscribeItem item = items.get(i);
+            Plan plan = item.getPlanId() != null ? plans.get(item.getPlanId()) : null;
+            if (item.getUserId() == null || item.getUserId().isBlank()) {
+                results[i] = rejected(i, "userId is required");
+            } else if (item.getPlanId() == null) {
+                results[i] = rejected(i, "planId is required");
+            } else if (plan == null) {
+                results[i] = rejected(i, "Plan not found");
+            } else if (!seen.add(new ActiveKey(item.getUserId(), plan.getCreatorId()))) {
+                results[i] = rejected(i, DUPLICATE_IN_BATCH_MESSAGE);
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        Set<ActiveKey> alreadyActive = findActive(seen);
+        List<Integer> toInsert = new ArrayList<>(candidates.size());
+        for (int i : candidates) {
+            BatchSubscribeItem item = items.get(i);
+            if (alreadyActive.contains(new ActiveKey(item.getUserId(), plans.get(item.getPlanId()).getCreatorId()))) {
+                results[i] = rejected(i, SubscriptionServiceImpl.DUPLICATE_ACTIVE_MESSAGE);
+            } else {
+                toInsert.add(i);
+            }
+        }
+
+        List<SubscriptionChange> changes = new ArrayList<>();
+        if (!toInsert.isEmpty()) {
+            List<Long> ids = jdbcTemplate.queryForList(ALLOCATE_IDS_SQL, Long.class, toInsert.size());
+            LocalDate today = LocalDate.now();
+
+            List<Object[]> args = new ArrayList<>(toInsert.size());
+            for (int k = 0; k < toInsert.size(); k++) {
+                BatchSubscribeItem item = items.get(toInsert.get(k));
+                Plan plan = plans.get(item.getPlanId());
+                args.add(new Object[]{
+                        ids.get(k), item.getUserId(), plan.getId(), plan.getCreatorId(),
+                        Date.valueOf(today), Date.valueOf(today.plusDays(plan.getDurationInDays())),
+                        item.getFirstName(), item.getLastName(), Boolean.TRUE.equals(item.getAutoRenewal())});
+            }
+            int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, args);
+
+            for (int k = 0; k < counts.length; k++) {
+                int i = toInsert.get(k);
+                if (!updated(counts[k])) {
+                    // A concurrent subscribe committed after the probe above
+                    results[i] = rejected(i, SubscriptionServiceImpl.DUPLICATE_ACTIVE_MESSAGE);
+                    continue;
+                }
+                BatchSubscribeItem item = items.get(i);
+                Plan plan = plans.get(item.getPlanId());
+                results[i] = BatchItemResultDTO.builder().index(i).status(CREATED).subscriptionId(ids.get(k)).build();
+                changes.add(SubscriptionChange.builder()
+                        .subscriptionId(ids.get(k))
+                        .type(SubscriptionChangeType.CREATED)
+                        .userId(item.getUserId())
+                        .planId(plan.getId())
+                        .creatorId(plan.getCreatorId())
+                        .price(plan.getPrice())
+                        .startDate(today)
+                        .endDate(today.plusDays(plan.getDurationInDays()))
+                        .active(true)
+                        .build());
+            }
+        }
+
+        publish(changes);
+        return toResult(results);
+    }
+
+    // Retried as a whole when a concurrent status change moves a locked row to another partition first
+    @Override
+    public BatchResultDTO cancelSubscriptions(List<Long> subscriptionIds) {
+        return transactions.execute(status -> cancelInTransaction(subscriptionIds));
+    }
+
+    private BatchResultDTO cancelInTransaction(List<Long> subscriptionIds) {
+        BatchItemResultDTO[] results = new BatchItemResultDTO[subscriptionIds.size()];
+
+        Long[] ids = subscriptionIds.stream().filter(Objects::nonNull).distinct().toArray(Long[]::new);
+        Map<Long, CancelRow> rows = new HashMap<>();
+        if (ids.length > 0) {
+            jdbcTemplate.query(SELECT_FOR_CANCEL_SQL, (rs, n) -> mapCancelRow(rs), (Object) ids)
+                    .forEach(row -> rows.put(row.id(), row));
+        }
+
+        List<CancelRow> toCancel = new ArrayList<>();
+        List<Integer> toCancelIndex = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < subscriptionIds.size(); i++) {
+            Long id = subscriptionIds.get(i);
+            if (id == null) {
+                results[i] = rejected(i, "subscriptionId is required");
+            } else if (!rows.containsKey(id)) {
+                results[i] = rejected(i, "Subscription not found");
+            } else if (!seen.add(id)) {
+                results[i] = rejected(i, DUPLICATE_IN_BATCH_MESSAGE);
+            } else {
+                toCancel.add(rows.get(id));
+                toCancelIndex.add(i);
+            }
+        }
+
+        List<SubscriptionChange> changes = new ArrayList<>();
+        if (!toCancel.isEmpty()) {
+            // Rows are locked above, so every update matches
+            jdbcTemplate.batchUpdate(CANCEL_SQL, toCancel.stream().map(row -> new Object[]{row.id()}).toList());
+            for (int k = 0; k < toCancel.size(); k++) {
+                CancelRow row = toCancel.get(k);
+                int i = toCancelIndex.get(k);
+                results[i] = BatchItemResultDTO.builder().index(i).status(CANCELLED).subscriptionId(row.id()).build();
+                changes.add(SubscriptionChange.builder()
+                        .subscriptionId(row.id())
+                        .type(SubscriptionChangeType.CANCELLED)
+                        .userId(row.userId())
+                        .planId(row.planId())
+                        .creatorId(row.creatorId())
+                        .price(row.price())
+                        .previousStartDate(row.startDate())
+                        .previousEndDate(row.endDate())
+                        .previouslyActive(row.active())
+                        .startDate(row.startDate())
+                        .endDate(row.endDate())
+                        .active(false)
+                        .build());
+            }
+        }
+
+        publish(changes);
+        return toResult(results);
+    }
+
+    // One index probe for every (user_id, creator_id) pair in the batch
+    private Set<ActiveKey> findActive(Set<ActiveKey> keys) {
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+        String[] userIds = keys.stream().map(ActiveKey::userId).toArray(String[]::new);
+        String[] creatorIds = keys.stream().map(ActiveKey::creatorId).toArray(String[]::new);
+        return new HashSet<>(jdbcTemplate.query(SELECT_ACTIVE_PAIRS_SQL,
+                (rs, n) -> new ActiveKey(rs.getString("user_id"), rs.getString("creator_id")),
+                userIds, creatorIds));
+    }
+
+    private void publish(List<SubscriptionChange> changes) {
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(SubscriptionChangedEvent.of(changes));
+        }
+    }
+
+    private static BatchItemResultDTO rejected(int index, String error) {
+        return BatchItemResultDTO.builder().index(index).status(REJECTED).error(error).build();
+    }
+
+    private static BatchResultDTO toResult(BatchItemResultDTO[] results) {
+        int rejected = (int) Arrays.stream(results).filter(r -> REJECTED.equals(r.getStatus())).count();
+        return BatchResultDTO.builder()
+                .succeeded(results.length - rejected)
+                .rejected(rejected)
+                .results(List.of(results))
+                .build();
+    }
+
+    private static CancelRow mapCancelRow(ResultSet rs) throws SQLException {
+        return new CancelRow(
+                rs.getLong("id"),
+                rs.getString("user_id"),
+                rs.getObject("start_date", LocalDate.class),
+                rs.getObject("end_date", LocalDate.class),
+                rs.getBoolean("active"),
+                rs.getObject("plan_id", Long.class),
+                rs.getString("creator_id"),
+                rs.getObject("price", Double.class));
+    }
+
+    // Drivers may report SUCCESS_NO_INFO (-2) for batched statements
+    private static boolean updated(int count) {
+        return count > 0 || count == Statement.SUCCESS_NO_INFO;
+    }
+
+    private record ActiveKey(String userId, String creatorId) {
+    }
+
+    private record CancelRow(long id, String userId, LocalDate startDate, LocalDate endDate, boolean active,
+                             Long planId, String creatorId, Double price) {
+    }
+}
@@ -0,0 +1,145 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.dto.SubscriptionListItemDTO;
+import com.subscription.service.dto.SubscriptionListRow;
+import com.subscription.service.entity.SubscriptionStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Maps {@link SubscriptionListRow} projections to dashboard table rows.
+ * Shared by the dashboard listing and the export paths so both render the
+ * same labels.
+ * <p>
+ * Work that is the same for many rows is done once per {@link Session}: the
+ * current date is read once, creator names are built once per plan and ISO
+ * date strings once per distinct date. Exporters read the individual cell
+ * values from the session and write them straight to their output instead of
+ * building a {@link SubscriptionListItemDTO} per row.
+ * </p>
+ */
+@Component
+public class SubscriptionListItemMapper {
+
+    private static final String STATUS_ACTIVE = "active";
+    private static final String STATUS_SOON_EXPIRED = "soon_expired";
+    private static final String STATUS_EXPIRED = "expired";
+    private static final String STATUS_CANCELLED = "cancelled";
+    private static final String AUTO_RENEWAL_ON = "On";
+    private static final String AUTO_RENEWAL_OFF = "Off";
+
+    private static final String NO_DURATION = "-";
+
+    public SubscriptionListItemDTO toListItem(SubscriptionListRow s) {
+        return newSession(LocalDate.now()).toListItem(s);
+    }
+
+    /**
+     * Starts a mapping session for one request or export. Not thread-safe.
+     *
+     * @param today the date remaining days and status labels are computed against
+     */
+    public Session newSession(LocalDate today) {
+        return new Session(today);
+    }
+
+    public static final class Session {
+
+        private final LocalDate today;
+        private final long todayEpochDay;
+
+        // Keyed by plan ID; rows without a plan are not cached
+        private final Map<Long, String> creatorNames = new HashMap<>();
+        private final Map<LocalDate, String> isoDates = new HashMap<>();
+
+        private Session(LocalDate today) {
+            this.today = today;
+            this.todayEpochDay = today.toEpochDay();
+        }
+
+        public SubscriptionListItemDTO toListItem(SubscriptionListRow s) {
+            return SubscriptionListItemDTO.builder()
+                    .id(s.getId())
+                    .fanName(fanName(s))
+                    .creatorId(s.getCreatorId())
+                    .creatorName(creatorName(s))
+                    .planName(s.getPlanName())
+                    .price(s.getPrice())
+                    .durationInDays(s.getDurationInDays())
+                    .startDate(s.getStartDate())
+                    .endDate(s.getEndDate())
+                    .durationText(durationText(s))
+                    .status(statusLabel(s))
+                    .autoRenewal(autoRenewalLabel(s))
+                    .remainingDays(s.getEndDate() != null ? remainingDays(s) : null)
+                    .build();
+        }
+
+        public String fanName(SubscriptionListRow s) {
+            return joinName(s.getFirstName(), s.getLastName());
+        }
+
+        public String creatorName(SubscriptionListRow s) {
+            if (s.getPlanId() == null) {
+                return creatorNameOf(s);
+            }
+            return creatorNames.computeIfAbsent(s.getPlanId(), id -> creatorNameOf(s));
+        }
+
+        /**
+         * Days left until the end date, never negative. Only meaningful when the row has an end date.
+         */
+        public long remainingDays(SubscriptionListRow s) {
+            return Math.max(0L, s.getEndDate().toEpochDay() - todayEpochDay);
+        }
+
+        public String statusLabel(SubscriptionListRow s) {
+            if (s.getStatus() == SubscriptionStatus.CANCELLED) {
+                return STATUS_CANCELLED;
+            }
+            if (s.getEndDate() == null) {
+                return STATUS_ACTIVE;
+            }
+            if (s.getEndDate().isBefore(today)) {
+                return STATUS_EXPIRED;
+            }
+            return remainingDays(s) <= 7 ? STATUS_SOON_EXPIRED : STATUS_ACTIVE;
+        }
+
+        public String durationText(SubscriptionListRow s) {
+            if (s.getStartDate() == null || s.getEndDate() == null) {
+                return NO_DURATION;
+            }
+            return isoDate(s.getStartDate()) + " - " + isoDate(s.getEndDate());
+        }
+
+        public String autoRenewalLabel(SubscriptionListRow s) {
+            return Boolean.TRUE.equals(s.getAutoRenewal()) ? AUTO_RENEWAL_ON : AUTO_RENEWAL_OFF;
+        }
+
+        private String isoDate(LocalDate date) {
+            return isoDates.computeIfAbsent(date, DateTimeFormatter.ISO_DATE::format);
+        }
+
+        private static String creatorNameOf(SubscriptionListRow s) {
+            String name = joinName(s.getCreatorFirstName(), s.getCreatorLastName());
+            return name.isEmpty() ? s.getCreatorId() : name;
+        }
+
+        private static String joinName(String first, String last) {
+            String f = first != null ? first.trim() : "";
+            if (last == null) {
+                return f;
+            }
+            String l = last.trim();
+            if (f.isEmpty()) {
+                return l;
+            }
+            return l.isEmpty() ? f : f + " " + l;
+        }
+    }
+}
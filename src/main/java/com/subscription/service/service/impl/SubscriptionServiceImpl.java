@@ -1,13 +1,20 @@
 package com.subscription.service.service.impl;
 
+import com.subscription.service.cache.PlanCache;
 import com.subscription.service.dto.SubscriptionResponse;
 import com.subscription.service.entity.Plan;
 import com.subscription.service.entity.Subscription;
 import com.subscription.service.entity.SubscriptionStatus;
-import com.subscription.service.repository.PlanRepository;
+import com.subscription.service.event.SubscriptionChange;
+import com.subscription.service.event.SubscriptionChangeType;
+import com.subscription.service.event.SubscriptionChangedEvent;
 import com.subscription.service.repository.SubscriptionRepository;
 import com.subscription.service.service.SubscriptionService;
+import com.subscription.service.tx.RetryingTransactionTemplate;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -25,33 +32,47 @@ import java.util.stream.Collectors;
  * </ul>
  * <p>
  * Auto-renewal status is handled as a boolean in the entity, but returned as "on"/"off" in responses.
- * Only one active subscription per creator is allowed for a user.
+ * Only one active subscription per creator is allowed for a user; this is
+ * checked with an index probe and enforced by a partial unique index, so
+ * concurrent double-subscribes are rejected without locking.
  */
 @Service
 @RequiredArgsConstructor
 public class SubscriptionServiceImpl implements SubscriptionService {
 
-    private final PlanRepository planRepository;
+    // Partial unique index on (user_id, creator_id) WHERE status = 'ACTIVE' (migration V2)
+    private static final String ACTIVE_CREATOR_CONSTRAINT = "uk_subscription_active_user_creator";
+    static final String DUPLICATE_ACTIVE_MESSAGE = "User already has an active subscription to this creator";
+
+    private final PlanCache planCache;
     private final SubscriptionRepository subscriptionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RetryingTransactionTemplate transactions;
 
     @Override
     public SubscriptionResponse createSubscription(String userId, Long planId, String firstName, String lastName, Boolean autoRenewal) {
 
-        Plan plan = planRepository.findById(planId)
+        // Resolved before the transaction opens: a cache miss loads on cacheLoadExecutor with its own
+        // connection, so holding one here while waiting for it could exhaust the pool
+        Plan plan = planCache.findById(planId)
                 .orElseThrow(() -> new RuntimeException("Plan not found"));
 
+        return transactions.execute(status -> insertSubscription(userId, plan, firstName, lastName, autoRenewal));
+    }
+
+    // Only the plan's ID is written with the subscription; the rest of the detached copy feeds the event
+    private SubscriptionResponse insertSubscription(String userId, Plan plan, String firstName, String lastName,
+                                                    Boolean autoRenewal) {
         // Check if user already has an active subscription for this creator
-        subscriptionRepository.findByUserId(userId).stream()
-                .filter(s -> s.getStatus() == SubscriptionStatus.ACTIVE
-                        && s.getPlan().getCreatorId().equals(plan.getCreatorId()))
-                .findFirst()
-                .ifPresent(s -> {
-                    throw new RuntimeException("User already has an active subscription to this creator");
-                });
+        if (subscriptionRepository.existsByUserIdAndCreatorIdAndStatus(
+                userId, plan.getCreatorId(), SubscriptionStatus.ACTIVE)) {
+            throw new RuntimeException(DUPLICATE_ACTIVE_MESSAGE);
+        }
 
         Subscription subscription = Subscription.builder()
                 .userId(userId)
                 .plan(plan)
+                .creatorId(plan.getCreatorId())
                 .startDate(LocalDate.now())
                 .endDate(LocalDate.now().plusDays(plan.getDurationInDays()))
                 .firstName(firstName)
@@ -61,7 +82,27 @@ public class SubscriptionServiceImpl implements SubscriptionService {
                 .autoRenewal(autoRenewal != null && autoRenewal)
                 .build();
 
-        Subscription saved = subscriptionRepository.save(subscription);
+        Subscription saved;
+        try {
+            saved = subscriptionRepository.saveAndFlush(subscription);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent subscribe won the race past the check above
+            if (isActiveCreatorConflict(e)) {
+                throw new RuntimeException(DUPLICATE_ACTIVE_MESSAGE, e);
+            }
+            throw e;
+        }
+        eventPublisher.publishEvent(SubscriptionChangedEvent.of(SubscriptionChange.builder()
+                .subscriptionId(saved.getId())
+                .type(SubscriptionChangeType.CREATED)
+                .userId(userId)
+                .planId(plan.getId())
+                .creatorId(plan.getCreatorId())
+                .price(plan.getPrice())
+                .startDate(saved.getStartDate())
+                .endDate(saved.getEndDate())
+                .active(true)
+                .build()));
         return buildResponse(saved);
     }
 
@@ -78,14 +119,25 @@ public class SubscriptionServiceImpl implements SubscriptionService {
                 .collect(Collectors.toList());
     }
 
+    // Retried when a concurrent expiry moves the row to another partition first
     @Override
     public void cancelSubscription(Long subscriptionId) {
-        Subscription subscription = subscriptionRepository.findById(subscriptionId)
-                .orElseThrow(() -> new RuntimeException("Subscription not found"));
+        transactions.executeWithoutResult(status -> {
+            Subscription subscription = subscriptionRepository.findById(subscriptionId)
+                    .orElseThrow(() -> new RuntimeException("Subscription not found"));
+
+            boolean wasActive = subscription.isActive();
+            subscription.setStatus(SubscriptionStatus.CANCELLED);
+            subscription.setActive(false);
+            subscriptionRepository.save(subscription);
+            eventPublisher.publishEvent(SubscriptionChangedEvent.of(
+                    SubscriptionChange.cancelled(subscription, wasActive)));
+        });
+    }
 
-        subscription.setStatus(SubscriptionStatus.CANCELLED);
-        subscription.setActive(false);
-        subscriptionRepository.save(subscription);
+    private static boolean isActiveCreatorConflict(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException cve
+                && ACTIVE_CREATOR_CONSTRAINT.equals(cve.getConstraintName());
     }
 
     /**
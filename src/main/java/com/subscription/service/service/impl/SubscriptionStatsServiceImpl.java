@@ -1,50 +1,104 @@
 package com.subscription.service.service.impl;
 
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.subscription.service.dto.SubscriptionStatsDTO;
 import com.subscription.service.service.SubscriptionStatsService;
-import lombok.RequiredArgsConstructor;
+import com.subscription.service.stats.SubscriptionStatsEngine;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Dashboard figures served from {@link SubscriptionStatsEngine}'s in-memory
+ * counters. Before the engine's first reconciliation completes, a short-lived
+ * cached aggregate query is used instead.
+ */
 @Service
-@RequiredArgsConstructor
 public class SubscriptionStatsServiceImpl implements SubscriptionStatsService {
 
+    // Used only until the stats engine has completed its first reconciliation
+    static final String STATS_SQL = """
+            SELECT
+                COUNT(*) FILTER (WHERE s.active = true) AS total_active,
+                COALESCE(SUM(p.price) FILTER (WHERE s.active = true
+                    AND s.start_date >= DATE_TRUNC('month', CURRENT_DATE)
+                    AND s.start_date < DATE_TRUNC('month', CURRENT_DATE) + INTERVAL '1 month'), 0) AS monthly_revenue,
+                COUNT(*) FILTER (WHERE s.active = true
+                    AND s.end_date BETWEEN CURRENT_DATE AND (CURRENT_DATE + INTERVAL '7 days')) AS expiring_soon,
+                COUNT(*) FILTER (WHERE s.start_date = CURRENT_DATE) AS new_today
+            FROM subscription s
+            LEFT JOIN plan p ON s.plan_id = p.id
+            WHERE s.active = true OR s.start_date = CURRENT_DATE
+            """;
+
+    private static final String STATS_KEY = "stats";
+
     private final JdbcTemplate jdbcTemplate;
+    private final SubscriptionStatsEngine statsEngine;
+
+    // One entry; concurrent misses wait for a single in-flight load instead of each querying.
+    // Loads run on cacheLoadExecutor so the query never holds the cache's map lock.
+    private final AsyncLoadingCache<String, SubscriptionStatsDTO> statsCache;
+
+    public SubscriptionStatsServiceImpl(JdbcTemplate jdbcTemplate,
+                                        SubscriptionStatsEngine statsEngine,
+                                        @Qualifier("cacheLoadExecutor") Executor loadExecutor,
+                                        @Value("${subscription.stats.cache-ttl:PT5S}") Duration cacheTtl) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.statsEngine = statsEngine;
+        this.statsCache = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(cacheTtl)
+                .executor(loadExecutor)
+                .buildAsync(key -> loadStats());
+    }
 
     @Override
     public Integer getTotalActiveSubscriptions() {
-        Integer result = jdbcTemplate.queryForObject(
-                "SELECT COUNT(*) FROM subscription WHERE active = true",
-                Integer.class);
-        return result != null ? result : 0;
+        return getStats().getTotalActive();
     }
 
     @Override
     public Double getMonthlyRevenue() {
-        Double result = jdbcTemplate.queryForObject(
-                "SELECT COALESCE(SUM(p.price), 0) FROM subscription s " +
-                        "JOIN plan p ON s.plan_id = p.id " +
-                        "WHERE s.active = true " +
-                        "AND s.start_date >= DATE_TRUNC('month', CURRENT_DATE) " +
-                        "AND s.start_date < DATE_TRUNC('month', CURRENT_DATE) + INTERVAL '1 month'",
-                Double.class);
-        return result != null ? result : 0.0;
+        return getStats().getMonthlyRevenue();
     }
 
     @Override
     public Integer getExpiringSoonCount() {
-        Integer result = jdbcTemplate.queryForObject(
-                "SELECT COUNT(*) FROM subscription WHERE active = true " +
-                        "AND end_date BETWEEN CURRENT_DATE AND (CURRENT_DATE + INTERVAL '7 days')",
-                Integer.class);
-        return result != null ? result : 0;
+        return getStats().getExpiringSoon();
     }
 
     @Override
     public Integer getNewTodayCount() {
-        Integer result = jdbcTemplate.queryForObject(
-                "SELECT COUNT(*) FROM subscription WHERE DATE(start_date) = CURRENT_DATE",
-                Integer.class);
-        return result != null ? result : 0;
+        return getStats().getNewToday();
+    }
+
+    @Override
+    public SubscriptionStatsDTO getStats() {
+        if (statsEngine.isReady()) {
+            return statsEngine.snapshot();
+        }
+        try {
+            return statsCache.get(STATS_KEY).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private SubscriptionStatsDTO loadStats() {
+        return jdbcTemplate.queryForObject(STATS_SQL, (rs, rowNum) -> new SubscriptionStatsDTO(
+                rs.getInt("total_active"),
+                rs.getDouble("monthly_revenue"),
+                rs.getInt("expiring_soon"),
+                rs.getInt("new_today")));
     }
 }
@@ -0,0 +1,190 @@
+package com.subscription.service.stats;
+
+import com.subscription.service.dto.SubscriptionStatsDTO;
+import com.subscription.service.event.SubscriptionChange;
+import com.subscription.service.event.SubscriptionChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process, incrementally maintained dashboard statistics.
+ * <p>
+ * Every committed {@link SubscriptionChangedEvent} is applied as a delta: the
+ * row's previous contribution is subtracted and its new one added. The engine
+ * keeps
+ * <ul>
+ *   <li>active subscriptions bucketed by end date (total active and the
+ *       7-day expiring window are sums over these buckets),</li>
+ *   <li>revenue of active subscriptions bucketed by start month,</li>
+ *   <li>subscriptions (any status) bucketed by start date, for "new today".</li>
+ * </ul>
+ * Reads never touch the database. The state is rebuilt from the database on
+ * startup and every {@code subscription.stats.reconcile-interval}; changes that
+ * bypass the events (manual SQL, another instance's writes) or race a
+ * reconciliation are therefore visible or corrected within one interval, which
+ * is the staleness bound of these figures.
+ * </p>
+ */
+@Slf4j
+@Component
+public class SubscriptionStatsEngine {
+
+    static final String ACTIVE_BY_END_DATE_SQL =
+            "SELECT end_date, COUNT(*) AS n FROM subscription WHERE active = true GROUP BY end_date";
+
+    static final String ACTIVE_REVENUE_BY_START_MONTH_SQL = """
+            SELECT COALESCE(SUM(p.price), 0)
+            FROM subscription s
+            JOIN plan p ON s.plan_id = p.id
+            WHERE s.active = true
+              AND s.start_date >= ?
+              AND s.start_date < ?
+            """;
+
+    static final String STARTS_ON_SQL = "SELECT COUNT(*) FROM subscription WHERE start_date = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate snapshotTransaction;
+
+    private volatile State state;
+
+    public SubscriptionStatsEngine(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshotTransaction = new TransactionTemplate(transactionManager);
+        this.snapshotTransaction.setReadOnly(true);
+        this.snapshotTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+    }
+
+    /**
+     * @return {@code true} once the first reconciliation has completed
+     */
+    public boolean isReady() {
+        return state != null;
+    }
+
+    /**
+     * Current figures, computed from in-memory buckets only.
+     */
+    public SubscriptionStatsDTO snapshot() {
+        State current = state;
+        LocalDate today = LocalDate.now();
+
+        long expiringSoon = 0;
+        for (int i = 0; i <= 7; i++) {
+            expiringSoon += sum(current.activeByEndDate.get(today.plusDays(i)));
+        }
+
+        DoubleAdder revenue = current.revenueByStartMonth.get(YearMonth.from(today));
+        return new SubscriptionStatsDTO(
+                Math.toIntExact(current.totalActive.sum()),
+                revenue != null ? revenue.sum() : 0.0,
+                Math.toIntExact(expiringSoon),
+                Math.toIntExact(sum(current.startsByDate.get(today))));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSubscriptionChanged(SubscriptionChangedEvent event) {
+        State current = state;
+        if (current == null) {
+            return; // The initial reconciliation will read these rows
+        }
+        for (SubscriptionChange change : event.getChanges()) {
+            if (change.getPreviousStartDate() != null || change.isPreviouslyActive()) {
+                current.apply(change.getPreviousStartDate(), change.getPreviousEndDate(),
+                        change.isPreviouslyActive(), change.getPrice(), -1);
+            }
+            current.apply(change.getStartDate(), change.getEndDate(), change.isActive(), change.getPrice(), 1);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    /**
+     * Rebuilds all buckets from the database in one consistent snapshot and swaps them in.
+     */
+    @Scheduled(fixedDelayString = "${subscription.stats.reconcile-interval:PT5M}",
+            initialDelayString = "${subscription.stats.reconcile-interval:PT5M}")
+    public void reconcile() {
+        LocalDate today = LocalDate.now();
+        YearMonth month = YearMonth.from(today);
+        State rebuilt = new State();
+
+        snapshotTransaction.executeWithoutResult(status -> {
+            jdbcTemplate.query(ACTIVE_BY_END_DATE_SQL, rs -> {
+                Date endDate = rs.getDate("end_date");
+                long n = rs.getLong("n");
+                rebuilt.totalActive.add(n);
+                if (endDate != null && !endDate.toLocalDate().isBefore(today)) {
+                    rebuilt.activeByEndDate.computeIfAbsent(endDate.toLocalDate(), d -> new LongAdder()).add(n);
+                }
+            });
+
+            Double revenue = jdbcTemplate.queryForObject(ACTIVE_REVENUE_BY_START_MONTH_SQL, Double.class,
+                    Date.valueOf(month.atDay(1)), Date.valueOf(month.plusMonths(1).atDay(1)));
+            rebuilt.revenueByStartMonth.computeIfAbsent(month, m -> new DoubleAdder())
+                    .add(revenue != null ? revenue : 0.0);
+
+            Long startsToday = jdbcTemplate.queryForObject(STARTS_ON_SQL, Long.class, Date.valueOf(today));
+            rebuilt.startsByDate.computeIfAbsent(today, d -> new LongAdder())
+                    .add(startsToday != null ? startsToday : 0L);
+        });
+
+        State previous = state;
+        state = rebuilt;
+        if (previous != null) {
+            log.debug("Reconciled dashboard stats: {} -> {}", previous.totalActive.sum(), rebuilt.totalActive.sum());
+        }
+    }
+
+    private static long sum(LongAdder adder) {
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * Bucketed counters. Only buckets that can still affect a reading are
+     * populated by reconciliation; deltas for older buckets are harmless and
+     * dropped at the next reconciliation.
+     */
+    private static final class State {
+        private final LongAdder totalActive = new LongAdder();
+        private final Map<LocalDate, LongAdder> activeByEndDate = new ConcurrentHashMap<>();
+        private final Map<YearMonth, DoubleAdder> revenueByStartMonth = new ConcurrentHashMap<>();
+        private final Map<LocalDate, LongAdder> startsByDate = new ConcurrentHashMap<>();
+
+        private void apply(LocalDate startDate, LocalDate endDate, boolean active, Double price, int sign) {
+            if (startDate != null) {
+                startsByDate.computeIfAbsent(startDate, d -> new LongAdder()).add(sign);
+            }
+            if (!active) {
+                return;
+            }
+            totalActive.add(sign);
+            if (endDate != null) {
+                activeByEndDate.computeIfAbsent(endDate, d -> new LongAdder()).add(sign);
+            }
+            if (startDate != null && price != null) {
+                revenueByStartMonth.computeIfAbsent(YearMonth.from(startDate), m -> new DoubleAdder())
+                        .add(sign * price);
+            }
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.subscription.service.tx;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.SQLException;
+import java.util.function.Consumer;
+
+/**
+ * Runs a unit of work in its own transaction and re-runs it when PostgreSQL
+ * aborts it with a serialization failure ({@code 40001}) or deadlock
+ * ({@code 40P01}).
+ * <p>
+ * {@code subscription} is partitioned by status, so cancelling or expiring a
+ * row moves it to another partition. A concurrent transaction that updates or
+ * locks the same row cannot follow it there and fails with {@code 40001}
+ * instead of re-checking the row, even under READ COMMITTED. Every path that
+ * changes a subscription's status goes through this template, so the losing
+ * side re-reads the row and applies its own checks again. Each attempt runs in
+ * a fresh transaction: work and events of a failed attempt are rolled back.
+ * Up to {@code subscription.tx.max-attempts} attempts are made.
+ * </p>
+ * <p>
+ * When called inside an existing transaction the work joins it and is not
+ * retried, since only the outermost transaction can be restarted.
+ * </p>
+ */
+@Slf4j
+@Component
+public class RetryingTransactionTemplate {
+
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+
+    public RetryingTransactionTemplate(PlatformTransactionManager transactionManager,
+                                       @Value("${subscription.tx.max-attempts:3}") int maxAttempts) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = maxAttempts;
+    }
+
+    public <T> T execute(TransactionCallback<T> action) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return transactionTemplate.execute(action);
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(action);
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                log.debug("Retrying transaction (attempt {} of {}): {}", attempt + 1, maxAttempts, e.getMessage());
+            }
+        }
+    }
+
+    public void executeWithoutResult(Consumer<TransactionStatus> action) {
+        execute(status -> {
+            action.accept(status);
+            return null;
+        });
+    }
+
+    // Spring translates both SQL states to PessimisticLockingFailureException; the cause chain covers paths it does not
+    static boolean isRetryable(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof PessimisticLockingFailureException) {
+                return true;
+            }
+            if (t instanceof SQLException sql && ("40001".equals(sql.getSQLState())
+                    || "40P01".equals(sql.getSQLState()))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
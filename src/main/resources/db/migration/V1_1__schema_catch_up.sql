@@ -0,0 +1,55 @@
+-- Columns and tables added after the baseline (V1). Databases baselined at version 1 run this first;
+-- IF NOT EXISTS because one last started with ddl-auto=update before Flyway took over may already have
+-- some of them, as Hibernate created them.
+
+-- plan / subscription -----------------------------------------------------------------------
+
+-- ETags of plan and subscription reads (@UpdateTimestamp); rows from before the column count as changed now
+ALTER TABLE plan ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6) WITH TIME ZONE;
+UPDATE plan SET updated_at = now() WHERE updated_at IS NULL;
+
+ALTER TABLE subscription ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6) WITH TIME ZONE;
+ALTER TABLE subscription ADD COLUMN IF NOT EXISTS creator_id VARCHAR(255);
+
+-- creator_id is denormalized from the plan at subscribe time; copy it onto rows created before that
+UPDATE subscription s
+SET creator_id = p.creator_id
+FROM plan p
+WHERE p.id = s.plan_id
+  AND s.creator_id IS NULL;
+
+UPDATE subscription SET updated_at = now() WHERE updated_at IS NULL;
+
+-- rollups -----------------------------------------------------------------------------------
+
+-- Journal of lifecycle changes, written with each change; it starts empty, so rollups and creator
+-- analytics cover activity from the upgrade onwards
+CREATE TABLE IF NOT EXISTS subscription_activity (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    subscription_id BIGINT      NOT NULL,
+    type            VARCHAR(20) NOT NULL CHECK (type IN ('CREATED', 'CANCELLED', 'RENEWED', 'EXPIRED')),
+    activity_date   DATE        NOT NULL,
+    plan_id         BIGINT,
+    creator_id      VARCHAR(255),
+    price           DOUBLE PRECISION,
+    occurred_at     TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS daily_rollup (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    day             DATE             NOT NULL,
+    plan_id         BIGINT           NOT NULL,
+    creator_id      VARCHAR(255)     NOT NULL,
+    new_count       BIGINT           NOT NULL,
+    renewed_count   BIGINT           NOT NULL,
+    cancelled_count BIGINT           NOT NULL,
+    expired_count   BIGINT           NOT NULL,
+    revenue         DOUBLE PRECISION NOT NULL,
+    CONSTRAINT uk_daily_rollup_day_plan_creator UNIQUE (day, plan_id, creator_id)
+);
+
+CREATE TABLE IF NOT EXISTS rollup_checkpoint (
+    name       VARCHAR(50) PRIMARY KEY,
+    last_day   DATE                        NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,35 @@
+-- Baseline: the schema spring.jpa.hibernate.ddl-auto=update generated for the entities as first released
+-- (Hibernate 6, PostgreSQL dialect), statement for statement. Databases that already have it are
+-- baselined at version 1 (spring.flyway.baseline-on-migrate) and skip this file, so it must not contain
+-- anything those databases lack; later additions go in V1_1 onwards.
+
+create table plan (
+    id               bigint generated by default as identity,
+    price            float(53)    not null,
+    duration_in_days integer      not null,
+    name             varchar(100) not null,
+    description      varchar(500),
+    creator_id       varchar(255) not null,
+    first_name       varchar(255),
+    last_name        varchar(255),
+    primary key (id)
+);
+
+create table subscription (
+    id           bigint generated by default as identity,
+    plan_id      bigint,
+    end_date     date,
+    start_date   date,
+    active       boolean      not null,
+    auto_renewal boolean,
+    user_id      varchar(100) not null,
+    first_name   varchar(255),
+    last_name    varchar(255),
+    status       varchar(255) check (status in ('ACTIVE', 'CANCELLED', 'EXPIRED', 'SOON_EXPIRED')),
+    primary key (id)
+);
+
+alter table if exists subscription
+    add constraint FK8lkqdq029r91j37wwfkc4k5ci
+    foreign key (plan_id)
+    references plan;
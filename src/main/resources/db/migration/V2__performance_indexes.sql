@@ -0,0 +1,55 @@
+-- Indexes matched to the service's queries. IF NOT EXISTS because databases baselined from
+-- ddl-auto=update may already have the ones previously declared with @Index.
+
+-- subscription ------------------------------------------------------------------------------
+
+-- Nightly expiry keyset chunks: status = 'ACTIVE' AND end_date < ? ORDER BY end_date, id;
+-- dashboard active / soon-expired filters and the endDate keyset sort
+CREATE INDEX IF NOT EXISTS idx_subscription_status_end_date_id
+    ON subscription (status, end_date, id);
+
+-- Dashboard cancelled / expired filters with the default id sort and id keyset cursor
+CREATE INDEX IF NOT EXISTS idx_subscription_status_id
+    ON subscription (status, id);
+
+-- SubscriptionRepository.findByUserId and the per-user ETag aggregate
+CREATE INDEX IF NOT EXISTS idx_subscription_user_id
+    ON subscription (user_id);
+
+-- Joins and lookups from plan to its subscriptions
+CREATE INDEX IF NOT EXISTS idx_subscription_plan_id
+    ON subscription (plan_id);
+
+-- Stats: "new today" (start_date = ?) and month-to-date revenue (start_date range, active)
+CREATE INDEX IF NOT EXISTS idx_subscription_start_date
+    ON subscription (start_date);
+
+-- Stats: active rows by end date (reconciliation GROUP BY end_date, expiring-soon window, total active)
+CREATE INDEX IF NOT EXISTS idx_subscription_active_end_date
+    ON subscription (end_date)
+    WHERE active = true;
+
+-- One ACTIVE subscription per user and creator; also the duplicate check in createSubscription
+CREATE UNIQUE INDEX IF NOT EXISTS uk_subscription_active_user_creator
+    ON subscription (user_id, creator_id)
+    WHERE status = 'ACTIVE';
+
+-- plan --------------------------------------------------------------------------------------
+
+-- PlanRepository.findByCreatorId
+CREATE INDEX IF NOT EXISTS idx_plan_creator_id
+    ON plan (creator_id);
+
+-- rollups -----------------------------------------------------------------------------------
+
+-- DailyRollupJob reads one activity_date at a time
+CREATE INDEX IF NOT EXISTS idx_subscription_activity_date
+    ON subscription_activity (activity_date);
+
+-- Per-creator rollup series; the unique (day, plan_id, creator_id) key serves day ranges
+CREATE INDEX IF NOT EXISTS idx_daily_rollup_creator_day
+    ON daily_rollup (creator_id, day);
+
+-- Per-plan rollup series
+CREATE INDEX IF NOT EXISTS idx_daily_rollup_plan_day
+    ON daily_rollup (plan_id, day);
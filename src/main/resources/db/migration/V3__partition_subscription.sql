@@ -0,0 +1,82 @@
+-- Partition subscription so the hot paths only touch ACTIVE rows:
+--
+--   subscription                       LIST (status)
+--   ├── subscription_active            'ACTIVE'                        hot partition
+--   ├── subscription_history           'CANCELLED', 'EXPIRED'          RANGE (end_date), one partition per month
+--   │   ├── subscription_history_yYYYYmMM
+--   │   └── subscription_history_default                             end_date outside the monthly partitions / NULL
+--   └── subscription_default           anything else (NULL status)
+--
+-- Status changes move rows between partitions. Monthly history partitions are created ahead and
+-- detached when old by SubscriptionPartitionMaintenanceJob.
+--
+-- Partitioned tables cannot carry an identity column before PostgreSQL 17, nor a primary key that
+-- omits the partition keys (end_date is nullable), so ids come from a sequence default and are
+-- indexed rather than declared as a primary key.
+
+ALTER TABLE subscription RENAME TO subscription_unpartitioned;
+
+CREATE TABLE subscription (
+    id           BIGINT       NOT NULL,
+    user_id      VARCHAR(100) NOT NULL,
+    plan_id      BIGINT REFERENCES plan (id),
+    creator_id   VARCHAR(255),
+    start_date   DATE,
+    end_date     DATE,
+    active       BOOLEAN      NOT NULL,
+    first_name   VARCHAR(255),
+    last_name    VARCHAR(255),
+    status       VARCHAR(255) CHECK (status IN ('ACTIVE', 'CANCELLED', 'EXPIRED')),
+    auto_renewal BOOLEAN,
+    updated_at   TIMESTAMP(6) WITH TIME ZONE
+) PARTITION BY LIST (status);
+
+CREATE TABLE subscription_active PARTITION OF subscription FOR VALUES IN ('ACTIVE');
+
+CREATE TABLE subscription_history PARTITION OF subscription FOR VALUES IN ('CANCELLED', 'EXPIRED')
+    PARTITION BY RANGE (end_date);
+
+CREATE TABLE subscription_history_default PARTITION OF subscription_history DEFAULT;
+
+CREATE TABLE subscription_default PARTITION OF subscription DEFAULT;
+
+-- Monthly history partitions from the oldest history row up to 12 months ahead
+DO $$
+DECLARE
+    m          DATE := date_trunc('month', COALESCE(
+                          (SELECT MIN(end_date) FROM subscription_unpartitioned WHERE status IN ('CANCELLED', 'EXPIRED')),
+                          CURRENT_DATE))::date;
+    last_month DATE := (date_trunc('month', CURRENT_DATE) + INTERVAL '12 months')::date;
+BEGIN
+    WHILE m <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF subscription_history FOR VALUES FROM (%L) TO (%L)',
+                       'subscription_history_' || to_char(m, '"y"YYYY"m"MM'), m, (m + INTERVAL '1 month')::date);
+        m := (m + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+INSERT INTO subscription (id, user_id, plan_id, creator_id, start_date, end_date, active, first_name, last_name,
+                          status, auto_renewal, updated_at)
+SELECT id, user_id, plan_id, creator_id, start_date, end_date, active, first_name, last_name,
+       status, auto_renewal, updated_at
+FROM subscription_unpartitioned;
+
+-- Drops the old table's indexes and identity sequence, freeing their names
+DROP TABLE subscription_unpartitioned;
+
+CREATE SEQUENCE subscription_id_seq OWNED BY subscription.id;
+SELECT setval('subscription_id_seq', COALESCE((SELECT MAX(id) FROM subscription), 0) + 1, false);
+ALTER TABLE subscription ALTER COLUMN id SET DEFAULT nextval('subscription_id_seq');
+
+-- Indexes on the parent cascade to every partition (and to partitions attached later)
+CREATE INDEX idx_subscription_id ON subscription (id);
+CREATE INDEX idx_subscription_status_end_date_id ON subscription (status, end_date, id);
+CREATE INDEX idx_subscription_status_id ON subscription (status, id);
+CREATE INDEX idx_subscription_user_id ON subscription (user_id);
+CREATE INDEX idx_subscription_plan_id ON subscription (plan_id);
+CREATE INDEX idx_subscription_start_date ON subscription (start_date);
+CREATE INDEX idx_subscription_active_end_date ON subscription (end_date) WHERE active = true;
+
+-- A unique index on the parent would have to include end_date (the history sub-partition key);
+-- every ACTIVE row lives in subscription_active, so enforcing it there is equivalent.
+CREATE UNIQUE INDEX uk_subscription_active_user_creator ON subscription_active (user_id, creator_id);
@@ -0,0 +1,34 @@
+-- Cold storage for subscriptions that ended (expired or cancelled) longer than subscription.archive.horizon ago.
+-- Rows are moved here by SubscriptionArchiveJob and are only read when the dashboard asks for archived data.
+-- The table is append-only and written in end_date order, so a BRIN index covers date-range reads at a
+-- fraction of a B-tree's size, and fillfactor 100 leaves no free space for updates that never happen.
+CREATE TABLE subscription_archive (
+    id           BIGINT       PRIMARY KEY,
+    user_id      VARCHAR(100) NOT NULL,
+    plan_id      BIGINT,
+    creator_id   VARCHAR(255),
+    start_date   DATE,
+    end_date     DATE,
+    first_name   VARCHAR(255),
+    last_name    VARCHAR(255),
+    status       VARCHAR(255) NOT NULL CHECK (status IN ('CANCELLED', 'EXPIRED')),
+    auto_renewal BOOLEAN,
+    price        DOUBLE PRECISION,
+    archived_at  TIMESTAMP(6) WITH TIME ZONE NOT NULL
+) WITH (fillfactor = 100);
+
+CREATE INDEX idx_subscription_archive_end_date ON subscription_archive USING brin (end_date);
+CREATE INDEX idx_subscription_archive_status_id ON subscription_archive (status, id);
+
+-- One row per end month, plan, creator and final status, accumulated as rows are archived.
+-- Archived rows without a plan are stored under plan_id 0 and creator_id '' (as in daily_rollup).
+CREATE TABLE subscription_archive_summary (
+    id                 BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    month              DATE             NOT NULL,
+    plan_id            BIGINT           NOT NULL,
+    creator_id         VARCHAR(255)     NOT NULL,
+    status             VARCHAR(255)     NOT NULL CHECK (status IN ('CANCELLED', 'EXPIRED')),
+    subscription_count BIGINT           NOT NULL,
+    revenue            DOUBLE PRECISION NOT NULL,
+    CONSTRAINT uk_subscription_archive_summary UNIQUE (month, plan_id, creator_id, status)
+);
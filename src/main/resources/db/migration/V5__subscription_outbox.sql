@@ -0,0 +1,15 @@
+-- Transactional outbox: one row per subscription lifecycle change, inserted in the transaction that made
+-- the change and delivered to the configured sink by OutboxPublisher. The id identifies the event to
+-- consumers; ids are assigned at insert, not at commit, so they order events only approximately.
+CREATE TABLE subscription_outbox (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    subscription_id BIGINT                      NOT NULL,
+    type            VARCHAR(20)                 NOT NULL CHECK (type IN ('CREATED', 'CANCELLED', 'RENEWED', 'EXPIRED')),
+    payload         JSONB                       NOT NULL,
+    created_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    published_at    TIMESTAMP(6) WITH TIME ZONE
+);
+
+-- The publisher only ever scans the unpublished tail, which this index keeps small
+CREATE INDEX idx_subscription_outbox_unpublished ON subscription_outbox (id) WHERE published_at IS NULL;
+CREATE INDEX idx_subscription_outbox_published_at ON subscription_outbox (published_at) WHERE published_at IS NOT NULL;
@@ -0,0 +1,5 @@
+-- Creator analytics: active subscribers per plan for one creator
+-- (status = 'ACTIVE' AND creator_id = ? GROUP BY plan_id). ACTIVE rows all live in subscription_active,
+-- so the index is only needed there; it covers the query and allows an index-only scan.
+CREATE INDEX IF NOT EXISTS idx_subscription_active_creator_plan
+    ON subscription_active (creator_id, plan_id);
@@ -0,0 +1,20 @@
+-- Name search on the dashboard (SearchServiceImpl). Trigram GIN indexes serve both the word-prefix
+-- matches (LIKE 'term%' OR LIKE '% term%') and the fuzzy word-similarity matches (term <% name).
+-- Each index is on the exact lower-cased expression the search queries use.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- subscription ------------------------------------------------------------------------------
+
+-- Fan name; created on the partitioned parent, so existing partitions get it now and partitions
+-- attached later by SubscriptionPartitionMaintenanceJob get it on ATTACH PARTITION
+CREATE INDEX IF NOT EXISTS idx_subscription_name_trgm
+    ON subscription USING gin ((lower(coalesce(first_name, '') || ' ' || coalesce(last_name, ''))) gin_trgm_ops);
+
+-- plan --------------------------------------------------------------------------------------
+
+CREATE INDEX IF NOT EXISTS idx_plan_name_trgm
+    ON plan USING gin ((lower(name)) gin_trgm_ops);
+
+-- Creator name, denormalized onto each of the creator's plans
+CREATE INDEX IF NOT EXISTS idx_plan_creator_name_trgm
+    ON plan USING gin ((lower(coalesce(first_name, '') || ' ' || coalesce(last_name, ''))) gin_trgm_ops);
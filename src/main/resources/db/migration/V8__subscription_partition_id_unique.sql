@@ -0,0 +1,23 @@
+-- V3 left subscription.id without any uniqueness check: a unique index on the partitioned parent would
+-- have to include status and end_date (the partition keys). Enforce it on every leaf partition instead.
+-- Together with the single subscription_id_seq default this keeps ids unique. A status change moves a
+-- row to another partition in one statement, keeping its id, so it cannot leave a duplicate behind.
+-- Partitions created later by SubscriptionPartitionMaintenanceJob get the same index
+-- (<partition>_id_key) before they are attached.
+
+CREATE UNIQUE INDEX IF NOT EXISTS subscription_active_id_key ON subscription_active (id);
+CREATE UNIQUE INDEX IF NOT EXISTS subscription_default_id_key ON subscription_default (id);
+
+DO $$
+DECLARE
+    part TEXT;
+BEGIN
+    FOR part IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'subscription_history'::regclass
+    LOOP
+        EXECUTE format('CREATE UNIQUE INDEX IF NOT EXISTS %I ON %I (id)', part || '_id_key', part);
+    END LOOP;
+END $$;
@@ -0,0 +1,100 @@
+package com.subscription.service;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Upgrade path: a database created by the baseline release with ddl-auto=update is adopted at version 1
+ * and migrated to the current schema without losing or orphaning rows.
+ * <p>
+ * Runs against a scratch database next to the test database, dropped afterwards.
+ * </p>
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class FlywayUpgradeTest {
+
+    private static final String DATABASE = "subscription_upgrade_test";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    private DataSource legacy;
+    private JdbcTemplate legacyJdbc;
+
+    @BeforeAll
+    void createBaselineDatabase() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + DATABASE);
+        jdbcTemplate.execute("CREATE DATABASE " + DATABASE);
+
+        String url = dataSourceProperties.getUrl();
+        legacy = new DriverManagerDataSource(url.substring(0, url.lastIndexOf('/') + 1) + DATABASE,
+                dataSourceProperties.getUsername(), dataSourceProperties.getPassword());
+        legacyJdbc = new JdbcTemplate(legacy);
+        new ResourceDatabasePopulator(new ClassPathResource("db/baseline-4d51342.sql")).execute(legacy);
+    }
+
+    @AfterAll
+    void dropBaselineDatabase() {
+        jdbcTemplate.execute("DROP DATABASE IF EXISTS " + DATABASE);
+    }
+
+    @Test
+    void migratesBaselineDatabase() {
+        MigrateResult result = Flyway.configure()
+                .dataSource(legacy)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertThat(result.success).isTrue();
+        assertThat(result.migrations).extracting(m -> m.version).doesNotContain("1").contains("1.1", "2");
+
+        // Rows survived the move into the partitioned table, with creator_id copied from their plan
+        List<Map<String, Object>> rows = legacyJdbc.queryForList(
+                "SELECT user_id, status, creator_id, updated_at FROM subscription ORDER BY id");
+        assertThat(rows).extracting(row -> row.get("status"))
+                .containsExactly("ACTIVE", "EXPIRED", "CANCELLED", "ACTIVE");
+        assertThat(rows).extracting(row -> row.get("creator_id"))
+                .containsExactly("creator-1", "creator-2", "creator-1", null);
+        assertThat(rows).allSatisfy(row -> assertThat(row.get("updated_at")).isNotNull());
+        assertThat(legacyJdbc.queryForObject("SELECT COUNT(*) FROM subscription_active", Long.class))
+                .isEqualTo(2);
+        assertThat(legacyJdbc.queryForObject(
+                "SELECT COUNT(*) FROM plan WHERE updated_at IS NULL", Long.class)).isZero();
+
+        // New rows continue after the existing ids
+        Long id = legacyJdbc.queryForObject("""
+                INSERT INTO subscription (user_id, plan_id, creator_id, start_date, active, status, updated_at)
+                VALUES ('fan-4', 1, 'creator-1', CURRENT_DATE, true, 'ACTIVE', now())
+                RETURNING id
+                """, Long.class);
+        assertThat(id).isGreaterThan(4);
+
+        for (String table : List.of("subscription_activity", "daily_rollup", "rollup_checkpoint",
+                "subscription_archive", "subscription_outbox")) {
+            assertThat(legacyJdbc.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, table))
+                    .as(table).isTrue();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.subscription.service.controller;
+
+import com.subscription.service.security.JwtUtil;
+import com.subscription.service.service.ExportJobService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Requests rejected with a {@link ResponseStatusException} keep its status and
+ * reason in the {@code {"error": ...}} body instead of becoming a 500.
+ */
+@SpringBootTest(properties = "subscription.live.max-clients=0")
+@AutoConfigureMockMvc
+class ErrorStatusControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @MockitoBean
+    private ExportJobService exportJobService;
+
+    @Test
+    void invalidCursorIsBadRequest() throws Exception {
+        expect(mockMvc.perform(get("/api/dashboard/subscriptions").param("cursor", "not-a-cursor")),
+                HttpStatus.BAD_REQUEST, "Invalid cursor: not-a-cursor");
+    }
+
+    @Test
+    void invalidPageSizeIsBadRequest() throws Exception {
+        expect(mockMvc.perform(get("/api/dashboard/subscriptions").param("size", "0")),
+                HttpStatus.BAD_REQUEST, null);
+    }
+
+    @Test
+    void shortSearchTextIsBadRequest() throws Exception {
+        expect(mockMvc.perform(get("/api/dashboard/search/subscriptions").param("q", "a")),
+                HttpStatus.BAD_REQUEST, null);
+    }
+
+    @Test
+    void archivedActiveFilterIsBadRequest() throws Exception {
+        expect(mockMvc.perform(get("/api/dashboard/subscriptions")
+                        .param("archived", "true")
+                        .param("filter", "active")),
+                HttpStatus.BAD_REQUEST, "Archived subscriptions are never active");
+    }
+
+    @Test
+    void fullExportQueueIsServiceUnavailable() throws Exception {
+        when(exportJobService.submit(anyString())).thenThrow(
+                new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Export queue is full, retry later"));
+
+        expect(mockMvc.perform(post("/api/dashboard/exports")),
+                HttpStatus.SERVICE_UNAVAILABLE, "Export queue is full, retry later");
+    }
+
+    @Test
+    void tooManyLiveClientsIsServiceUnavailable() throws Exception {
+        expect(mockMvc.perform(get("/api/dashboard/live").accept(MediaType.ALL)),
+                HttpStatus.SERVICE_UNAVAILABLE, "Too many live dashboard clients");
+    }
+
+    @Test
+    void emptyBatchIsBadRequest() throws Exception {
+        expect(mockMvc.perform(post("/api/subscriptions/batch/subscribe")
+                        .header(HttpHeaders.AUTHORIZATION, bearer("error-status-fan"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": []}")),
+                HttpStatus.BAD_REQUEST, null);
+    }
+
+    @Test
+    void batchForAnotherUserIsForbidden() throws Exception {
+        expect(mockMvc.perform(post("/api/subscriptions/batch/subscribe")
+                        .header(HttpHeaders.AUTHORIZATION, bearer("error-status-fan"))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"items\": [{\"userId\": \"someone-else\", \"planId\": 1}]}")),
+                HttpStatus.FORBIDDEN, "Only partner tokens may subscribe other users");
+    }
+
+    @Test
+    void invertedAnalyticsRangeIsBadRequest() throws Exception {
+        expect(mockMvc.perform(get("/api/creators/me/analytics")
+                        .header(HttpHeaders.AUTHORIZATION, bearer("error-status-creator"))
+                        .param("from", "2026-02-01")
+                        .param("to", "2026-01-01")),
+                HttpStatus.BAD_REQUEST, "'from' must not be after 'to'");
+    }
+
+    // A null reason only checks that an error message is present
+    private static void expect(ResultActions result, HttpStatus status, String reason) throws Exception {
+        result.andExpect(status().is(status.value()));
+        if (reason != null) {
+            result.andExpect(jsonPath("$.error").value(reason));
+        } else {
+            result.andExpect(jsonPath("$.error").isNotEmpty());
+        }
+    }
+
+    private String bearer(String userId) {
+        return "Bearer " + jwtUtil.generateToken(userId);
+    }
+}
@@ -0,0 +1,89 @@
+package com.subscription.service.outbox;
+
+import com.subscription.service.dto.SubscriptionResponse;
+import com.subscription.service.entity.Plan;
+import com.subscription.service.event.SubscriptionChangeType;
+import com.subscription.service.repository.PlanRepository;
+import com.subscription.service.repository.SubscriptionRepository;
+import com.subscription.service.service.DashboardService;
+import com.subscription.service.service.SubscriptionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lifecycle changes reach the sink exactly once, in order, after the outbox is drained.
+ */
+@SpringBootTest(properties = {
+        "subscription.outbox.sink=memory",
+        "subscription.outbox.poll-interval=PT1H"
+})
+class OutboxPublisherTest {
+
+    @Autowired
+    private SubscriptionService subscriptionService;
+    @Autowired
+    private DashboardService dashboardService;
+    @Autowired
+    private OutboxPublisher outboxPublisher;
+    @Autowired
+    private InMemoryOutboxSink sink;
+    @Autowired
+    private PlanRepository planRepository;
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Plan plan;
+    private Long subscriptionId;
+
+    @BeforeEach
+    void seed() {
+        plan = planRepository.save(Plan.builder()
+                .name("Outbox plan").price(4.99).durationInDays(30)
+                .creatorId("outbox-creator").firstName("Creator").lastName("Outbox")
+                .build());
+        sink.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        if (subscriptionId != null) {
+            jdbcTemplate.update("DELETE FROM subscription_outbox WHERE subscription_id = ?", subscriptionId);
+            jdbcTemplate.update("DELETE FROM subscription_activity WHERE subscription_id = ?", subscriptionId);
+            subscriptionRepository.deleteById(subscriptionId);
+        }
+        planRepository.delete(plan);
+    }
+
+    @Test
+    void createAndCancelArePublishedOnce() {
+        SubscriptionResponse created = subscriptionService.createSubscription(
+                "outbox-fan", plan.getId(), "Fan", "Outbox", false);
+        subscriptionId = created.getId();
+        dashboardService.cancelSubscription(subscriptionId);
+
+        outboxPublisher.publishPending();
+        outboxPublisher.publishPending();
+
+        List<OutboxMessage> messages = sink.getMessages().stream()
+                .filter(m -> m.subscriptionId() == subscriptionId)
+                .toList();
+        assertThat(messages).extracting(OutboxMessage::type)
+                .containsExactly(SubscriptionChangeType.CREATED, SubscriptionChangeType.CANCELLED);
+        assertThat(messages.get(0).payload()).contains("\"userId\":\"outbox-fan\"");
+
+        Integer pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM subscription_outbox WHERE subscription_id = ? AND published_at IS NULL",
+                Integer.class, subscriptionId);
+        assertThat(pending).isZero();
+    }
+}
@@ -0,0 +1,99 @@
+package com.subscription.service.repository;
+
+import com.subscription.service.dto.SubscriptionFilter;
+import com.subscription.service.dto.SubscriptionSort;
+import com.subscription.service.entity.SubscriptionStatus;
+import com.subscription.service.support.IndexUsageTestSupport;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Index regression test for the repository queries: each query is run once
+ * through its repository, and the SQL and bind values Hibernate generated for
+ * it (captured by {@link StatementRecorder}) are explained.
+ */
+@Import(StatementRecorder.class)
+class QueryIndexUsageTest extends IndexUsageTestSupport {
+
+    // Any unique id index of a leaf partition (V8) serves id lookups as well as idx_subscription_id
+    private static final String ID_INDEX = "idx_subscription_id|subscription%_id_key";
+
+    @Autowired
+    private DashboardRepository dashboardRepository;
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+    @Autowired
+    private PlanRepository planRepository;
+
+    Stream<Arguments> queries() {
+        LocalDate today = LocalDate.now();
+        return Stream.of(
+                // DashboardRepository
+                arguments("findRowById", (Runnable) () -> dashboardRepository.findRowById(1L),
+                        List.of(ID_INDEX)),
+                arguments("findRowsByIds", (Runnable) () -> dashboardRepository.findRowsByIds(List.of(1L, 2L, 3L)),
+                        List.of(ID_INDEX)),
+                arguments("findAllActive", (Runnable) () -> dashboardRepository.findAllActive(),
+                        List.of("idx_subscription_status_end_date_id")),
+                arguments("findAllSoonExpired",
+                        (Runnable) () -> dashboardRepository.findAllSoonExpired(today, today.plusDays(7)),
+                        List.of("idx_subscription_status_end_date_id")),
+                arguments("findAllCancelled", (Runnable) () -> dashboardRepository.findAllCancelled(),
+                        List.of("idx_subscription_status_id|idx_subscription_status_end_date_id")),
+                arguments("findAllExpired", (Runnable) () -> dashboardRepository.findAllExpired(),
+                        List.of("idx_subscription_status_id|idx_subscription_status_end_date_id")),
+                arguments("findWindow (id keyset)", (Runnable) () -> dashboardRepository.findWindow(
+                                SubscriptionFilter.CANCELLED, today, SubscriptionSort.ID, Sort.Direction.ASC,
+                                ScrollPosition.forward(Map.of("id", 100L)), 50),
+                        List.of("idx_subscription_status_id")),
+                arguments("findWindow (endDate keyset)", (Runnable) () -> dashboardRepository.findWindow(
+                                SubscriptionFilter.ACTIVE, today, SubscriptionSort.END_DATE, Sort.Direction.ASC,
+                                ScrollPosition.forward(endDateKeys(today, 100L)), 50),
+                        List.of("idx_subscription_status_end_date_id")),
+
+                // SubscriptionRepository
+                arguments("findByUserId", (Runnable) () -> subscriptionRepository.findByUserId(USER_PREFIX + 7),
+                        List.of("idx_subscription_user_id")),
+                arguments("existsByUserIdAndCreatorIdAndStatus",
+                        (Runnable) () -> subscriptionRepository.existsByUserIdAndCreatorIdAndStatus(
+                                USER_PREFIX + 7, PLAN_PREFIX + 8, SubscriptionStatus.ACTIVE),
+                        List.of("uk_subscription_active_user_creator")),
+
+                // PlanRepository
+                arguments("findByCreatorId", (Runnable) () -> planRepository.findByCreatorId(PLAN_PREFIX + 8),
+                        List.of("idx_plan_creator_id"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void queryUsesIndexes(String name, Runnable query, List<String> indexes) {
+        List<StatementRecorder.RecordedStatement> statements = StatementRecorder.record(query);
+        assertThat(statements).as("statements issued by %s", name).hasSize(1);
+        StatementRecorder.RecordedStatement statement = statements.get(0);
+
+        assertUsesIndexes(name, explain(statement.sql(), statement.args()), indexes.toArray(String[]::new));
+    }
+
+    // Keyset keys in cursor order, as DashboardRepositoryImpl builds them
+    private static Map<String, Object> endDateKeys(LocalDate endDate, long id) {
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("endDate", endDate);
+        keys.put("id", id);
+        return keys;
+    }
+}
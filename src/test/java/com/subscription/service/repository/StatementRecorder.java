@@ -0,0 +1,99 @@
+package com.subscription.service.repository;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Captures the SQL and bind values Hibernate sends for repository queries, so
+ * {@link QueryIndexUsageTest} explains the generated statement rather than a
+ * hand-written copy of it.
+ * <p>
+ * Wraps the application {@link DataSource}; only prepared statements executed
+ * by the thread inside {@link #record(Runnable)} are kept.
+ * </p>
+ */
+@TestConfiguration
+class StatementRecorder {
+
+    private static final ThreadLocal<List<RecordedStatement>> RECORDING = new ThreadLocal<>();
+
+    record RecordedStatement(String sql, Object[] args) {
+    }
+
+    static List<RecordedStatement> record(Runnable action) {
+        List<RecordedStatement> statements = new ArrayList<>();
+        RECORDING.set(statements);
+        try {
+            action.run();
+        } finally {
+            RECORDING.remove();
+        }
+        return statements;
+    }
+
+    @Bean
+    static BeanPostProcessor recordingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return bean instanceof DataSource dataSource ? recording(dataSource) : bean;
+            }
+        };
+    }
+
+    private static DataSource recording(DataSource target) {
+        return proxy(DataSource.class, target, (method, args, result) ->
+                result instanceof Connection connection ? recording(connection) : result);
+    }
+
+    private static Connection recording(Connection target) {
+        return proxy(Connection.class, target, (method, args, result) ->
+                method.getName().equals("prepareStatement") && result instanceof PreparedStatement statement
+                        ? recording(statement, (String) args[0])
+                        : result);
+    }
+
+    private static PreparedStatement recording(PreparedStatement target, String sql) {
+        Map<Integer, Object> binds = new TreeMap<>();
+        return proxy(PreparedStatement.class, target, (method, args, result) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                binds.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                binds.clear();
+            } else if (name.startsWith("execute") && RECORDING.get() != null) {
+                RECORDING.get().add(new RecordedStatement(sql, binds.values().toArray()));
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+        return (T) Proxy.newProxyInstance(StatementRecorder.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    try {
+                        return afterCall.apply(method, args, method.invoke(target, args));
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result);
+    }
+}
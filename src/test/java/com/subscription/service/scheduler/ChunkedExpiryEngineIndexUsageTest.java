@@ -0,0 +1,39 @@
+package com.subscription.service.scheduler;
+
+import com.subscription.service.support.IndexUsageTestSupport;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Index regression test for the chunk queries of {@link ChunkedExpiryEngine}:
+ * every chunk must be one range scan of {@code (status, end_date, id)}, so a
+ * run costs the number of due rows, not the size of the table.
+ */
+class ChunkedExpiryEngineIndexUsageTest extends IndexUsageTestSupport {
+
+    private static final String INDEX = "idx_subscription_status_end_date_id";
+
+    Stream<Arguments> queries() {
+        Date today = Date.valueOf(LocalDate.now());
+        return Stream.of(
+                arguments("first chunk", ChunkedExpiryEngine.SELECT_FIRST_CHUNK,
+                        new Object[]{today, 500}),
+                arguments("next chunk", ChunkedExpiryEngine.SELECT_NEXT_CHUNK,
+                        new Object[]{today, Date.valueOf(LocalDate.now().minusDays(30)), 0L, 500})
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void chunkUsesKeysetIndex(String name, String sql, Object[] args) {
+        assertUsesIndexes(name, explain(sql, args), INDEX);
+    }
+}
@@ -0,0 +1,110 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.dto.SubscriptionFilter;
+import com.subscription.service.dto.SubscriptionPageRequest;
+import com.subscription.service.dto.SubscriptionSort;
+import com.subscription.service.entity.Plan;
+import com.subscription.service.entity.Subscription;
+import com.subscription.service.entity.SubscriptionStatus;
+import com.subscription.service.repository.PlanRepository;
+import com.subscription.service.repository.SubscriptionRepository;
+import com.subscription.service.service.DashboardService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * N+1 regression test: every dashboard listing call must issue a fixed number
+ * of statements, independent of how many subscriptions and plans are listed.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class DashboardServiceImplStatementCountTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+    @Autowired
+    private PlanRepository planRepository;
+    @Autowired
+    private SubscriptionRepository subscriptionRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<Plan> plans = new ArrayList<>();
+    private final List<Subscription> subscriptions = new ArrayList<>();
+    private Statistics statistics;
+
+    @BeforeEach
+    void seed() {
+        LocalDate today = LocalDate.now();
+        for (int i = 0; i < 3; i++) {
+            plans.add(planRepository.save(Plan.builder()
+                    .name("N+1 plan " + i).price(9.99).durationInDays(30)
+                    .creatorId("n-plus-one-creator-" + i).firstName("Creator").lastName(String.valueOf(i))
+                    .build()));
+        }
+        for (int i = 0; i < 12; i++) {
+            subscriptions.add(subscriptionRepository.save(Subscription.builder()
+                    .userId("n-plus-one-fan-" + i).plan(plans.get(i % plans.size()))
+                    .startDate(today.minusDays(10)).endDate(today.plusDays(i))
+                    .firstName("Fan").lastName(String.valueOf(i))
+                    .status(i % 4 == 0 ? SubscriptionStatus.CANCELLED : SubscriptionStatus.ACTIVE)
+                    .active(i % 4 != 0).autoRenewal(false)
+                    .build()));
+        }
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        subscriptionRepository.deleteAll(subscriptions);
+        planRepository.deleteAll(plans);
+    }
+
+    @Test
+    void listMethodsIssueOneStatement() {
+        assertStatements(1, () -> dashboardService.getAllSubscriptions());
+        assertStatements(1, () -> dashboardService.getActiveSubscriptions());
+        assertStatements(1, () -> dashboardService.getCancelledSubscriptions());
+        assertStatements(1, () -> dashboardService.getExpiredSubscriptions());
+        assertStatements(1, () -> dashboardService.getSoonExpiredSubscriptions());
+        assertStatements(1, () -> dashboardService.getById(subscriptions.get(1).getId()));
+    }
+
+    @Test
+    void pagedListingIssuesOneStatementPlusOptionalCount() {
+        assertStatements(1, () -> dashboardService.getSubscriptionPage(pageRequest(null, false)));
+        assertStatements(2, () -> dashboardService.getSubscriptionPage(pageRequest(null, true)));
+        assertStatements(1, () -> dashboardService.getSubscriptionPage(pageRequest(0, false)));
+    }
+
+    private SubscriptionPageRequest pageRequest(Integer page, boolean includeTotal) {
+        return SubscriptionPageRequest.builder()
+                .filter(SubscriptionFilter.ALL)
+                .page(page)
+                .size(5)
+                .sort(SubscriptionSort.END_DATE)
+                .direction(Sort.Direction.ASC)
+                .includeTotal(includeTotal)
+                .build();
+    }
+
+    private void assertStatements(long expected, Runnable listing) {
+        statistics.clear();
+        listing.run();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,55 @@
+package com.subscription.service.service.impl;
+
+import com.subscription.service.support.IndexUsageTestSupport;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Index regression test for the SQL constants of the service implementations,
+ * explained with the parameters the services bind.
+ */
+class ServiceQueryIndexUsageTest extends IndexUsageTestSupport {
+
+    Stream<Arguments> queries() {
+        return Stream.of(
+                // SubscriptionStatsServiceImpl
+                arguments("stats fallback", SubscriptionStatsServiceImpl.STATS_SQL, new Object[0],
+                        List.of("idx_subscription_active_end_date", "idx_subscription_start_date")),
+
+                // ResourceVersionServiceImpl
+                arguments("user subscriptions version", ResourceVersionServiceImpl.USER_SUBSCRIPTIONS_SQL,
+                        new Object[]{USER_PREFIX + 7},
+                        List.of("idx_subscription_user_id")),
+
+                // CreatorAnalyticsServiceImpl
+                arguments("creator active by plan", CreatorAnalyticsServiceImpl.ACTIVE_BY_PLAN_SQL,
+                        new Object[]{PLAN_PREFIX + 8},
+                        List.of("idx_subscription_active_creator_plan")),
+
+                // SearchServiceImpl
+                arguments("search subscriptions", SearchServiceImpl.SUBSCRIPTION_IDS_SQL,
+                        SearchServiceImpl.params("smi", 0, 50),
+                        List.of("idx_subscription_name_trgm")),
+                arguments("search plans", SearchServiceImpl.PLANS_SQL,
+                        SearchServiceImpl.params("smi", 0, 50),
+                        List.of("idx_plan_name_trgm", "idx_plan_creator_name_trgm"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void queryUsesIndexes(String name, String sql, Object params, List<String> indexes) {
+        List<String> plan = params instanceof SqlParameterSource named
+                ? explain(sql, named)
+                : explain(sql, (Object[]) params);
+
+        assertUsesIndexes(name, plan, indexes.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,42 @@
+package com.subscription.service.stats;
+
+import com.subscription.service.support.IndexUsageTestSupport;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+/**
+ * Index regression test for the reconciliation queries of {@link SubscriptionStatsEngine},
+ * explained with the parameters {@code reconcile()} binds.
+ */
+class SubscriptionStatsEngineIndexUsageTest extends IndexUsageTestSupport {
+
+    Stream<Arguments> queries() {
+        LocalDate today = LocalDate.now();
+        YearMonth month = YearMonth.from(today);
+        return Stream.of(
+                arguments("active by end date", SubscriptionStatsEngine.ACTIVE_BY_END_DATE_SQL, new Object[0],
+                        List.of("idx_subscription_active_end_date")),
+                arguments("active revenue by start month", SubscriptionStatsEngine.ACTIVE_REVENUE_BY_START_MONTH_SQL,
+                        new Object[]{Date.valueOf(month.atDay(1)), Date.valueOf(month.plusMonths(1).atDay(1))},
+                        List.of("idx_subscription_start_date|idx_subscription_active_end_date")),
+                arguments("starts on date", SubscriptionStatsEngine.STARTS_ON_SQL,
+                        new Object[]{Date.valueOf(today)},
+                        List.of("idx_subscription_start_date"))
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    void queryUsesIndexes(String name, String sql, Object[] args, List<String> indexes) {
+        assertUsesIndexes(name, explain(sql, args), indexes.toArray(String[]::new));
+    }
+}
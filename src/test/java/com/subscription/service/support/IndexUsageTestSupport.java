@@ -0,0 +1,128 @@
+package com.subscription.service.support;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Base of the index regression tests: seeds subscriptions and plans, runs
+ * {@code EXPLAIN} on production statements and checks which indexes the plan
+ * reads.
+ * <p>
+ * The seeded tables are small, so sequential scans are disabled for the
+ * explaining transaction ({@code SET LOCAL enable_seqscan = off}). That alone
+ * would accept any index the planner can be pushed onto, so each statement
+ * also names the index it was designed for, and the plan must read that index
+ * (or, for an index declared on the partitioned {@code subscription}, one of
+ * its partition children).
+ * </p>
+ * <p>
+ * Subclasses live next to the code they test and pass its SQL constants,
+ * which are package-private for that purpose, so the explained statement is
+ * always the one that runs.
+ * </p>
+ */
+@SpringBootTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public abstract class IndexUsageTestSupport {
+
+    protected static final String PLAN_PREFIX = "explain-creator-";
+    protected static final String USER_PREFIX = "explain-fan-";
+
+    // An index and every index attached to it, for indexes declared on a partitioned table
+    private static final String INDEX_TREE_SQL = """
+            WITH RECURSIVE tree AS (
+                SELECT c.oid, c.relname FROM pg_class c WHERE c.relkind IN ('i', 'I') AND c.relname LIKE ?
+                UNION ALL
+                SELECT c.oid, c.relname
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                JOIN tree t ON i.inhparent = t.oid
+            )
+            SELECT relname FROM tree
+            """;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+    @Autowired
+    protected NamedParameterJdbcTemplate namedJdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    protected void seed() {
+        jdbcTemplate.update("""
+                INSERT INTO plan (name, price, duration_in_days, creator_id, first_name, last_name, updated_at)
+                SELECT 'Explain plan ' || g, 9.99, 30, ? || g, 'Creator', 'Smith' || g, now()
+                FROM generate_series(1, 50) g
+                """, PLAN_PREFIX);
+        jdbcTemplate.update("""
+                INSERT INTO subscription (user_id, plan_id, creator_id, start_date, end_date, active, status,
+                                          auto_renewal, first_name, last_name, updated_at)
+                SELECT ? || g, p.id, p.creator_id, CURRENT_DATE - (g % 60), CURRENT_DATE - 30 + (g % 60),
+                       g % 3 <> 0, CASE g % 3 WHEN 0 THEN 'CANCELLED' ELSE 'ACTIVE' END, g % 2 = 0,
+                       'Fan', 'Smith' || g, now()
+                FROM generate_series(1, 2000) g
+                JOIN plan p ON p.creator_id = ? || (1 + g % 50)
+                """, USER_PREFIX, PLAN_PREFIX);
+        jdbcTemplate.execute("ANALYZE subscription");
+        jdbcTemplate.execute("ANALYZE plan");
+    }
+
+    @AfterAll
+    protected void cleanUp() {
+        jdbcTemplate.update("DELETE FROM subscription WHERE user_id LIKE ?", USER_PREFIX + "%");
+        jdbcTemplate.update("DELETE FROM plan WHERE creator_id LIKE ?", PLAN_PREFIX + "%");
+    }
+
+    protected List<String> explain(String sql, Object... args) {
+        return inExplainTransaction(() -> jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+
+    protected List<String> explain(String sql, SqlParameterSource params) {
+        return inExplainTransaction(() -> namedJdbcTemplate.queryForList("EXPLAIN " + sql, params, String.class));
+    }
+
+    /**
+     * Asserts that {@code plan} reads no table sequentially and reads every
+     * one of {@code indexes}. An entry of the form {@code a|b} accepts either
+     * index, and {@code %} matches like in {@code LIKE} (per-partition indexes).
+     */
+    protected void assertUsesIndexes(String name, List<String> plan, String... indexes) {
+        assertThat(plan).as("plan for %s:%n%s", name, String.join("\n", plan))
+                .noneMatch(line -> line.contains("Seq Scan on subscription"))
+                .noneMatch(line -> line.contains("Seq Scan on plan"));
+        for (String index : indexes) {
+            Set<String> accepted = new HashSet<>();
+            for (String alternative : index.split("\\|")) {
+                accepted.addAll(jdbcTemplate.queryForList(INDEX_TREE_SQL, String.class, alternative));
+            }
+            assertThat(accepted).as("index %s exists", index).isNotEmpty();
+            assertThat(plan).as("plan for %s reads %s:%n%s", name, index, String.join("\n", plan))
+                    .anyMatch(line -> accepted.stream().anyMatch(a -> line.contains(" " + a + " ")
+                            || line.endsWith(" " + a)));
+        }
+    }
+
+    private List<String> inExplainTransaction(Supplier<List<String>> explain) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        return tx.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return explain.get();
+        });
+    }
+}
@@ -0,0 +1,44 @@
+-- A database as the service left it at the baseline commit (4d51342): the DDL Hibernate generated with
+-- ddl-auto=update, plus a few rows. Kept separate from V1 on purpose, so the upgrade test keeps
+-- describing the deployed schema even if V1 is edited by mistake.
+
+create table plan (
+    id               bigint generated by default as identity,
+    price            float(53)    not null,
+    duration_in_days integer      not null,
+    name             varchar(100) not null,
+    description      varchar(500),
+    creator_id       varchar(255) not null,
+    first_name       varchar(255),
+    last_name        varchar(255),
+    primary key (id)
+);
+
+create table subscription (
+    id           bigint generated by default as identity,
+    plan_id      bigint,
+    end_date     date,
+    start_date   date,
+    active       boolean      not null,
+    auto_renewal boolean,
+    user_id      varchar(100) not null,
+    first_name   varchar(255),
+    last_name    varchar(255),
+    status       varchar(255) check (status in ('ACTIVE', 'CANCELLED', 'EXPIRED', 'SOON_EXPIRED')),
+    primary key (id)
+);
+
+alter table if exists subscription
+    add constraint FK8lkqdq029r91j37wwfkc4k5ci
+    foreign key (plan_id)
+    references plan;
+
+insert into plan (price, duration_in_days, name, creator_id, first_name, last_name)
+values (9.99, 30, 'Monthly', 'creator-1', 'Ada', 'Lovelace'),
+       (99.0, 365, 'Yearly', 'creator-2', 'Alan', 'Turing');
+
+insert into subscription (plan_id, start_date, end_date, active, auto_renewal, user_id, first_name, last_name, status)
+values (1, CURRENT_DATE - 10, CURRENT_DATE + 20, true, true, 'fan-1', 'Grace', 'Hopper', 'ACTIVE'),
+       (2, CURRENT_DATE - 400, CURRENT_DATE - 35, false, false, 'fan-1', 'Grace', 'Hopper', 'EXPIRED'),
+       (1, CURRENT_DATE - 70, CURRENT_DATE - 40, false, false, 'fan-2', 'Edsger', 'Dijkstra', 'CANCELLED'),
+       (null, CURRENT_DATE - 5, CURRENT_DATE + 25, true, null, 'fan-3', null, null, 'ACTIVE');